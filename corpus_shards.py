@@ -0,0 +1,45 @@
+import glob
+import os
+import numpy as np
+
+# Binary corpus shards written by `ModelTokenCodec batchEncodeBinary` or `ParsingText corpus` (see CorpusShardWriter.java):
+#   <name>.bin - token IDs of every file back to back, little-endian uint16
+#   <name>.idx - little-endian int64 token offsets, file i is bin[idx[i]:idx[i + 1]]
+# Both are memory-mapped, so nothing is read until it is used and there is no concat step.
+
+SHARD_DIR = "./data/processed_corpus"
+
+def load_shard(shard_path):
+    """Memory-maps one shard. Takes the path of either file or the path without extension."""
+    base = os.path.splitext(shard_path)[0]
+    # A zip whose files were all dropped gives an empty .bin, which cannot be memory-mapped
+    if os.path.getsize(base + ".bin") == 0:
+        tokens = np.zeros(0, dtype="<u2")
+    else:
+        tokens = np.memmap(base + ".bin", dtype="<u2", mode="r")
+    offsets = np.memmap(base + ".idx", dtype="<i8", mode="r")
+    return tokens, offsets
+
+def iter_documents(shard_paths):
+    """Yields the token IDs of every file in the given shards as uint16 array views."""
+    for shard_path in shard_paths:
+        tokens, offsets = load_shard(shard_path)
+        for i in range(len(offsets) - 1):
+            yield tokens[offsets[i]:offsets[i + 1]]
+
+def list_shards(shard_dir=SHARD_DIR):
+    return sorted(glob.glob(os.path.join(shard_dir, "*.bin")))
+
+def count_documents(shard_paths):
+    """Number of files in the given shards, from the indexes alone."""
+    return sum(len(load_shard(path)[1]) - 1 for path in shard_paths)
+
+if __name__ == "__main__":
+    shards = list_shards()
+    total_tokens = 0
+    total_docs = 0
+    for path in shards:
+        tokens, offsets = load_shard(path)
+        total_tokens += len(tokens)
+        total_docs += len(offsets) - 1
+    print(f"{len(shards)} shards, {total_docs} files, {total_tokens} tokens")
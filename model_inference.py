@@ -2,6 +2,8 @@ import torch
 from transformers import AutoTokenizer, AutoModelForCausalLM
 import subprocess
 import os
+import struct
+import atexit
 import time
 import psutil
 
@@ -10,20 +12,73 @@ CHECKPOINT_PATH = "./model/final"
 DEVICE = "cpu"  # Uses CPU for benchmarking for intended use case. Change to "cuda" if you have a GPU and want to use it
 JAR_PATH = "./parser/ModelTokenCodec.jar"   # Path to the Java JAR file for encoding/decoding created from ModelTokenCodec
 ANTLR_PATH = "./parser/antlr-4.13.2-complete.jar"   # Path to the ANTLR JAR file (needed for encoding/decoding)
+CODEC_DIR = "./parser/target/codec"   # Built by `mvn -Pappcds package` in parser, used instead of the JARs above if present for faster startup
 
 print(f"Using device: {DEVICE}")
 print(f"Loading model from: {CHECKPOINT_PATH}")
 
+class CodecServer:
+    """Keeps one ModelTokenCodec JVM alive in 'serve' mode and talks to it over framed stdin/stdout."""
+    OPCODES = {"encode": b"E", "decode": b"D"}
+
+    def __init__(self):
+        if os.path.exists(os.path.join(CODEC_DIR, "ModelTokenCodec.jsa")):
+            command = self.archived_command()
+        else:
+            if not os.path.exists(JAR_PATH) or not os.path.exists(ANTLR_PATH):
+                raise FileNotFoundError(f"JAR file not found at {JAR_PATH}. Please check the path.")
+
+            # os.pathsep automatically uses the correct separator (';' for Windows, ':' for Linux/macOS)
+            classpath = f"{JAR_PATH}{os.pathsep}{ANTLR_PATH}"
+            command = ["java", "-cp", classpath, "com.codelm.ModelTokenCodec", "serve"]
+        self.process = subprocess.Popen(command, stdin=subprocess.PIPE, stdout=subprocess.PIPE)
+        atexit.register(self.close)
+
+    @staticmethod
+    def archived_command():
+        # Same classpath and archive flags as codec.sh, which a shell-less platform can't run.
+        # No identifier snapshot, like the JAR command the model is served with otherwise
+        codec_dir = os.path.abspath(CODEC_DIR)
+        classpath = os.pathsep.join(os.path.join(codec_dir, jar) for jar in ("ModelTokenCodec.jar", "antlr4-runtime.jar"))
+        archive = os.path.join(codec_dir, "ModelTokenCodec.jsa")
+        return ["java", "-XX:+AutoCreateSharedArchive", f"-XX:SharedArchiveFile={archive}",
+                "-cp", classpath, "com.codelm.ModelTokenCodec", "serve"]
+
+    def request(self, mode, text_input):
+        payload = text_input.encode("utf-8")
+        self.process.stdin.write(self.OPCODES[mode] + struct.pack(">I", len(payload)) + payload)
+        self.process.stdin.flush()
+
+        header = self.process.stdout.read(5)
+        if len(header) < 5:
+            raise RuntimeError("Codec server exited unexpectedly")
+        status, length = header[:1], struct.unpack(">I", header[1:])[0]
+        result = self.process.stdout.read(length).decode("utf-8")
+        if status != b"O":
+            raise RuntimeError(f"Codec server error: {result}")
+        # The old one-shot encode/decode CLI printed its result with println, keep the trailing newline callers got
+        return result + "\n"
+
+    def close(self):
+        if self.process.poll() is None:
+            self.process.stdin.write(b"Q")
+            self.process.stdin.close()
+            self.process.wait()
+
+codec_server = None
+
 def run_codec(mode, text_input):
-    if not os.path.exists(JAR_PATH) or not os.path.exists(ANTLR_PATH):
-        raise FileNotFoundError(f"JAR file not found at {JAR_PATH}. Please check the path.")
-    
-    # os.pathsep automatically uses the correct separator (';' for Windows, ':' for Linux/macOS)
-    classpath = f"{JAR_PATH}{os.pathsep}{ANTLR_PATH}"
-    command = ["java", "-cp", classpath, "com.codelm.ModelTokenCodec", mode]
-    result = subprocess.run(command, input=text_input, capture_output=True, text=True, check=True, encoding='utf-8')
+    # Start the codec JVM once and reuse it for every later prompt and completion
+    global codec_server
+    if codec_server is None:
+        codec_server = CodecServer()
+    return codec_server.request(mode, text_input)
 
-    return result.stdout
+# Start the codec JVM before loading the model, so its startup and lexer warm-up overlap with the model load
+try:
+    codec_server = CodecServer()
+except FileNotFoundError:
+    codec_server = None  # run_codec raises it again where it is handled
 
 # Measure memory before loading model
 process = psutil.Process(os.getpid())
@@ -93,7 +148,7 @@ public CumulativeTokenStats() {'''
 try:
     unicode_prompt = run_codec("encode", prompt)
     print(f"Prompt encoded successfully.\n{unicode_prompt}")
-except (subprocess.CalledProcessError, FileNotFoundError) as e:
+except (subprocess.CalledProcessError, FileNotFoundError, RuntimeError) as e:
     print(f"Error running the Java encoder: {e}")
     if isinstance(e, subprocess.CalledProcessError):
         print(f"Java Error Output: \n{e.stderr}")
@@ -153,7 +208,7 @@ unicode_output = unicode_output.split(eol_token, 1)[0] + eol_token
 try:
     generated_java_code = run_codec("decode", unicode_output)
     print(generated_java_code)
-except (subprocess.CalledProcessError, FileNotFoundError) as e:
+except (subprocess.CalledProcessError, FileNotFoundError, RuntimeError) as e:
     print(f"Error running the Java decoder: {e}")
     if isinstance(e, subprocess.CalledProcessError):
         print(f"Java Error Output: \n{e.stderr}")
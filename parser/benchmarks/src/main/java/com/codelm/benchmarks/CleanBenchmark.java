@@ -0,0 +1,45 @@
+package com.codelm.benchmarks;
+
+import com.codelm.Parser;
+import com.codelm.TokenStreamCleaner;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-file throughput and latency of the {@link Parser} stages: comment and annotation stripping, and
+ * pretty-printing of the stripped code, on the files JavaParser parses. {@link TokenStreamCleaner} does both in one
+ * lexer pass and runs on every file.
+ * <p>
+ * Run with {@code java -jar target/benchmarks.jar CleanBenchmark}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CleanBenchmark {
+    private final Parser parser = new Parser();
+    private String[] cleaned;
+
+    @Setup
+    public void setup(CorpusState corpus) {
+        cleaned = corpus.parsable.stream().map(parser::cleanJavaCode).toArray(String[]::new);
+    }
+
+    @Benchmark
+    public String cleanJavaCode(CorpusState corpus, CorpusState.Cursor cursor) {
+        return parser.cleanJavaCode(corpus.parsable.get(cursor.nextParsable(corpus)));
+    }
+
+    @Benchmark
+    public String formatJavaCode(CorpusState corpus, CorpusState.Cursor cursor) {
+        return parser.formatJavaCode(cleaned[cursor.nextParsable(corpus)]);
+    }
+
+    @Benchmark
+    public TokenStreamCleaner.Cleaned cleanTokenStream(CorpusState corpus, CorpusState.Cursor cursor) {
+        return TokenStreamCleaner.clean(corpus.contents.get(cursor.next(corpus)));
+    }
+}
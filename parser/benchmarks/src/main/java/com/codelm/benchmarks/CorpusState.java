@@ -0,0 +1,93 @@
+package com.codelm.benchmarks;
+
+import com.github.javaparser.ParseProblemException;
+import com.github.javaparser.StaticJavaParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Java sources the benchmarks run on, loaded once per fork.
+ * <p>
+ * The default corpus is checked in under {@code corpus/} as a fixed sample of open source Java files named like the
+ * extracted dataset, so results stay comparable across commits (see {@code corpus/README.md}). It is split by file
+ * size into {@code small} (under 4 KB), {@code medium} (4 to 12 KB) and {@code large} (12 KB and over)
+ * subdirectories, one benchmark run per bucket. Like the dataset, each bucket also holds files the pipeline drops:
+ * garbage and files JavaParser rejects. Benchmarks of stages that need a parse run on {@link #parsable} only.
+ * Another corpus can be given with {@code -p corpusDir=<dir>}, with the same buckets or with {@code -p size=all}
+ * for every file below it.
+ */
+@State(Scope.Benchmark)
+public class CorpusState {
+    // Relative to the benchmarks directory, where the benchmarks are run from
+    @Param("corpus")
+    public String corpusDir;
+
+    @Param({"small", "medium", "large"})
+    public String size;
+
+    final List<String> names = new ArrayList<>();
+    final List<String> contents = new ArrayList<>();
+    // Contents of the files JavaParser parses as they are, in corpus order
+    final List<String> parsable = new ArrayList<>();
+
+    @Setup
+    public void load() throws IOException {
+        Path root = size.equals("all") ? Paths.get(corpusDir) : Paths.get(corpusDir, size);
+        List<Path> files;
+        try (Stream<Path> paths = Files.walk(root)) {
+            files = paths.filter(p -> p.toString().endsWith(".java")).sorted().toList();
+        }
+        if (files.isEmpty()) {
+            throw new IllegalStateException("No .java files in " + root);
+        }
+        for (Path file : files) {
+            names.add(file.getFileName().toString());
+            String content = Files.readString(file);
+            contents.add(content);
+            try {
+                StaticJavaParser.parse(content);
+                parsable.add(content);
+            } catch (ParseProblemException e) {
+                // Dropped by the JavaParser pipeline, left to the benchmarks that take any file
+            }
+        }
+        if (parsable.isEmpty()) {
+            throw new IllegalStateException("No file in " + root + " parses with JavaParser");
+        }
+    }
+
+    int fileCount() {
+        return contents.size();
+    }
+
+    /**
+     * Position in the corpus of one benchmark thread. Per-file benchmarks take the next file on every invocation,
+     * so their throughput and latency samples cover the whole corpus in a fixed order.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+
+        private int nextParsable;
+
+        int next(CorpusState corpus) {
+            int index = next;
+            next = index + 1 == corpus.fileCount() ? 0 : index + 1;
+            return index;
+        }
+
+        /** Index of the next file in {@link CorpusState#parsable}. */
+        int nextParsable(CorpusState corpus) {
+            int index = nextParsable;
+            nextParsable = index + 1 == corpus.parsable.size() ? 0 : index + 1;
+            return index;
+        }
+    }
+}
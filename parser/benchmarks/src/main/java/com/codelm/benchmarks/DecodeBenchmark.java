@@ -0,0 +1,75 @@
+package com.codelm.benchmarks;
+
+import com.codelm.ModelTokenCodec;
+import com.codelm.TokenIdBuffer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding throughput of {@link ModelTokenCodec} over the encoded form of a {@link CorpusState corpus} of Java sources.
+ * The {@code tokens} counter reports model tokens decoded per second.
+ * <p>
+ * Run with {@code java -jar target/benchmarks.jar DecodeBenchmark}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DecodeBenchmark {
+    private final List<short[]> encodedIds = new ArrayList<>();
+    private final List<String> encodedPua = new ArrayList<>();
+    private ModelTokenCodec codec;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long tokens;
+    }
+
+    @State(Scope.Thread)
+    public static class Buffers {
+        final StringBuilder code = new StringBuilder();
+    }
+
+    @Setup
+    public void setup(CorpusState corpus) throws IOException {
+        codec = new ModelTokenCodec(0);
+        TokenIdBuffer ids = new TokenIdBuffer();
+        for (String source : corpus.contents) {
+            ids.clear();
+            codec.encodeToIds(source, ids);
+            encodedIds.add(ids.toArray());
+            encodedPua.add(codec.encodeFileToUnicodeString(source));
+        }
+    }
+
+    @Benchmark
+    public int decodeIds(Buffers buffers, Counters counters) {
+        int length = 0;
+        for (short[] ids : encodedIds) {
+            buffers.code.setLength(0);
+            codec.decodeIds(ids, 0, ids.length, buffers.code);
+            counters.tokens += ids.length;
+            length += buffers.code.length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public int decodeUnicodeStringToJava(Counters counters) {
+        int length = 0;
+        for (short[] ids : encodedIds) {
+            counters.tokens += ids.length;
+        }
+        for (String pua : encodedPua) {
+            length += codec.decodeUnicodeStringToJava(pua).length();
+        }
+        return length;
+    }
+}
@@ -0,0 +1,63 @@
+package com.codelm.benchmarks;
+
+import com.codelm.ModelTokenCodec;
+import com.codelm.TokenIdBuffer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding throughput of {@link ModelTokenCodec} over a {@link CorpusState corpus} of Java sources.
+ * Besides whole-corpus passes per second, the {@code tokens} counter reports model tokens per second.
+ * <p>
+ * Run with {@code java -jar target/benchmarks.jar EncodeBenchmark}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EncodeBenchmark {
+    private List<String> files;
+    private ModelTokenCodec codec;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long tokens;
+    }
+
+    @State(Scope.Thread)
+    public static class Buffers {
+        final TokenIdBuffer ids = new TokenIdBuffer();
+    }
+
+    @Setup
+    public void setup(CorpusState corpus) throws IOException {
+        files = corpus.contents;
+        codec = new ModelTokenCodec(0);
+    }
+
+    @Benchmark
+    public void encodeToIds(Buffers buffers, Counters counters) {
+        for (String file : files) {
+            buffers.ids.clear();
+            codec.encodeToIds(file, buffers.ids);
+            counters.tokens += buffers.ids.size();
+        }
+    }
+
+    @Benchmark
+    public int encodeFileToUnicodeString(Counters counters) throws IOException {
+        int length = 0;
+        for (String file : files) {
+            String encoded = codec.encodeFileToUnicodeString(file);
+            counters.tokens += encoded.length();
+            length += encoded.length();
+        }
+        return length;
+    }
+}
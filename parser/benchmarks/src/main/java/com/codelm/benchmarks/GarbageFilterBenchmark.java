@@ -0,0 +1,32 @@
+package com.codelm.benchmarks;
+
+import com.codelm.GarbageFileFilter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-file throughput and latency of {@link GarbageFileFilter}: the full parse-based check and the lexer-only
+ * prefilter that runs before it in the pipeline.
+ * <p>
+ * Run with {@code java -jar target/benchmarks.jar GarbageFilterBenchmark}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GarbageFilterBenchmark {
+
+    @Benchmark
+    public boolean isGarbage(CorpusState corpus, CorpusState.Cursor cursor) {
+        int index = cursor.next(corpus);
+        return GarbageFileFilter.isGarbage(corpus.names.get(index), corpus.contents.get(index));
+    }
+
+    @Benchmark
+    public GarbageFileFilter.Verdict prefilter(CorpusState corpus, CorpusState.Cursor cursor) {
+        return GarbageFileFilter.prefilter(corpus.contents.get(cursor.next(corpus)));
+    }
+}
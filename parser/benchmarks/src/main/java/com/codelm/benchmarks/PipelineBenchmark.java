@@ -0,0 +1,62 @@
+package com.codelm.benchmarks;
+
+import com.codelm.FilePreprocessor;
+import com.codelm.ModelTokenCodec;
+import com.codelm.TokenIdBuffer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-file throughput and latency end to end: the {@link FilePreprocessor} stage of {@code ParsingText}
+ * (garbage filtering, cleaning, formatting, token statistics) alone and followed by encoding the result to model
+ * token IDs as the batch encoders do. Duplicate detection is left out, every file would be a duplicate after its
+ * first round. Runs once per {@link FilePreprocessor.Cleaner}.
+ * <p>
+ * Run with {@code java -jar target/benchmarks.jar PipelineBenchmark}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PipelineBenchmark {
+    @Param({"javaparser", "antlr"})
+    public String cleaner;
+
+    private FilePreprocessor preprocessor;
+    private ModelTokenCodec codec;
+
+    @State(Scope.Thread)
+    public static class Buffers {
+        final TokenIdBuffer ids = new TokenIdBuffer();
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        preprocessor = new FilePreprocessor(null, null, null,
+                FilePreprocessor.Cleaner.valueOf(cleaner.toUpperCase(Locale.ROOT)), false);
+        codec = new ModelTokenCodec(0);
+    }
+
+    @Benchmark
+    public FilePreprocessor.Result preprocess(CorpusState corpus, CorpusState.Cursor cursor) {
+        int index = cursor.next(corpus);
+        return preprocessor.process(corpus.names.get(index), corpus.contents.get(index));
+    }
+
+    @Benchmark
+    public int preprocessAndEncode(CorpusState corpus, CorpusState.Cursor cursor, Buffers buffers) {
+        int index = cursor.next(corpus);
+        FilePreprocessor.Result result = preprocessor.process(corpus.names.get(index), corpus.contents.get(index));
+        if (result == null) {
+            return 0;
+        }
+        buffers.ids.clear();
+        codec.encodeToIds(result.getFormattedCode(), buffers.ids);
+        return buffers.ids.size();
+    }
+}
@@ -0,0 +1,40 @@
+package com.codelm.benchmarks;
+
+import com.codelm.TokenAnalyzer;
+import com.github.javaparser.StaticJavaParser;
+import com.github.javaparser.ast.CompilationUnit;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-file throughput and latency of {@link TokenAnalyzer}, from source text and on already parsed units, over the
+ * files JavaParser parses. The difference between the two is the parse.
+ * <p>
+ * Run with {@code java -jar target/benchmarks.jar TokenAnalyzerBenchmark}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenAnalyzerBenchmark {
+    private CompilationUnit[] units;
+
+    @Setup
+    public void setup(CorpusState corpus) {
+        units = corpus.parsable.stream().map(StaticJavaParser::parse).toArray(CompilationUnit[]::new);
+    }
+
+    @Benchmark
+    public TokenAnalyzer.TokenStats analyzeSource(CorpusState corpus, CorpusState.Cursor cursor) throws IOException {
+        return TokenAnalyzer.analyze(corpus.parsable.get(cursor.nextParsable(corpus)));
+    }
+
+    @Benchmark
+    public TokenAnalyzer.TokenStats analyzeParsed(CorpusState corpus, CorpusState.Cursor cursor) {
+        return TokenAnalyzer.analyze(units[cursor.nextParsable(corpus)]);
+    }
+}
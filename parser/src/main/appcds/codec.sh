@@ -0,0 +1,19 @@
+#!/bin/sh
+# Starts ModelTokenCodec from the directory built by `mvn -Pappcds package` (target/codec), with the class-data
+# archive of the training run and, if one was built, the identifier snapshot. Takes the same arguments as the jar.
+#
+# -XX:+AutoCreateSharedArchive (JDK 19+) maps the archive if it matches this JVM and classpath, and otherwise
+# regenerates it when this process exits, so a JDK upgrade costs one slow start instead of breaking the launcher.
+DIR=$(cd "$(dirname "$0")" && pwd)
+
+JAVA_OPTS="-XX:+AutoCreateSharedArchive -XX:SharedArchiveFile=$DIR/ModelTokenCodec.jsa"
+if [ -f "$DIR/identifiers.snapshot" ]; then
+    JAVA_OPTS="$JAVA_OPTS -Dcodelm.identifiers=$DIR/identifiers.snapshot"
+fi
+case "$1" in
+    serve|batchEncode|batchEncodeBinary) ;;
+    # One-shot modes finish before C2 would pay off
+    *) JAVA_OPTS="$JAVA_OPTS -XX:TieredStopAtLevel=1 -XX:+UseSerialGC" ;;
+esac
+
+exec java $JAVA_OPTS -cp "$DIR/ModelTokenCodec.jar:$DIR/antlr4-runtime.jar" com.codelm.ModelTokenCodec "$@"
@@ -0,0 +1,581 @@
+package com.codelm;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.Normalizer;
+import java.util.*;
+
+/**
+ * Java port of the second tokenization stage: BPE merges over the PUA alphabet produced by {@link ModelTokenCodec}.
+ * Loads a Hugging Face {@code bpe_tokenizer.json} (as written by {@code train_bpe.py}, e.g. custom_bpe_final or
+ * custom_bpe_final6k) and produces the same model input IDs as the {@code tokenizers} library, so the whole
+ * source to model ID path can run in one JVM.
+ * <p>
+ * Merges are applied with a rank-ordered priority queue over a linked list of symbols, lowest rank first and
+ * leftmost first on ties, which is the order the {@code tokenizers} BPE model uses.
+ * Immutable after loading and safe to share between threads.
+ */
+public class BpeTokenizer {
+    private static final int NO_MERGE = -1;
+
+    private final Map<String, Integer> vocab;
+    private final String[] idToToken;
+    private final boolean[] special;
+    private final int unkId;
+    private final boolean nfc;
+
+    // Initial symbol for every BMP char, -1 if the char is not in the vocabulary
+    private final int[] charToId = new int[Character.MAX_VALUE + 1];
+
+    // Pair (left id, right id) -> (rank, merged id)
+    private final PairTable merges;
+
+    // Codec IDs of every model token, flattened: codecIds[codecIdOffsets[id] .. codecIdOffsets[id + 1])
+    private final int[] codecIdOffsets;
+    private final short[] codecIds;
+
+    private BpeTokenizer(Map<String, Integer> vocab, List<String[]> mergeList, Map<String, Integer> addedTokens,
+                         String unkToken, boolean nfc) throws IOException {
+        this.vocab = vocab;
+        this.nfc = nfc;
+
+        int size = 0;
+        for (int id : vocab.values()) {
+            size = Math.max(size, id + 1);
+        }
+        for (int id : addedTokens.values()) {
+            size = Math.max(size, id + 1);
+        }
+        if (size > Short.MAX_VALUE + 1) {
+            throw new IOException("Vocabulary of " + size + " tokens does not fit 16-bit model IDs");
+        }
+
+        idToToken = new String[size];
+        vocab.forEach((token, id) -> idToToken[id] = token);
+        special = new boolean[size];
+        addedTokens.forEach((token, id) -> {
+            idToToken[id] = token;
+            special[id] = true;
+        });
+
+        Integer unk = unkToken == null ? null : vocab.getOrDefault(unkToken, addedTokens.get(unkToken));
+        unkId = unk == null ? -1 : unk;
+
+        Arrays.fill(charToId, -1);
+        vocab.forEach((token, id) -> {
+            if (token.length() == 1) {
+                charToId[token.charAt(0)] = id;
+            }
+        });
+
+        merges = new PairTable(mergeList.size() * 2);
+        for (int rank = 0; rank < mergeList.size(); rank++) {
+            String[] pair = mergeList.get(rank);
+            Integer left = vocab.get(pair[0]);
+            Integer right = vocab.get(pair[1]);
+            Integer merged = vocab.get(pair[0] + pair[1]);
+            if (left == null || right == null || merged == null) {
+                throw new IOException("Merge " + rank + " refers to tokens missing from the vocabulary");
+            }
+            merges.put(left, right, rank, merged);
+        }
+
+        // Special tokens and chars outside the PUA alphabet (e.g. '\n') map to no codec IDs
+        codecIdOffsets = new int[size + 1];
+        short[] flat = new short[size * 4];
+        int length = 0;
+        for (int id = 0; id < size; id++) {
+            codecIdOffsets[id] = length;
+            String token = idToToken[id];
+            if (token != null && !special[id]) {
+                for (int i = 0; i < token.length(); i++) {
+                    int codecId = token.charAt(i) - ModelTokenCodec.PUA_START;
+                    if (codecId >= 0 && codecId <= Short.MAX_VALUE) {
+                        if (length == flat.length) {
+                            flat = Arrays.copyOf(flat, length * 2);
+                        }
+                        flat[length++] = (short) codecId;
+                    }
+                }
+            }
+        }
+        codecIdOffsets[size] = length;
+        codecIds = Arrays.copyOf(flat, length);
+    }
+
+    /**
+     * Loads a BPE tokenizer saved by the Hugging Face {@code tokenizers} library.
+     *
+     * @param tokenizerJson Path to {@code bpe_tokenizer.json}.
+     * @throws IOException If the file cannot be read or is not a BPE tokenizer.
+     */
+    @SuppressWarnings("unchecked")
+    public static BpeTokenizer load(Path tokenizerJson) throws IOException {
+        Object root = new JsonReader(Files.readString(tokenizerJson, StandardCharsets.UTF_8)).readDocument();
+        if (!(root instanceof Map) || !(((Map<String, Object>) root).get("model") instanceof Map)) {
+            throw new IOException("Not a tokenizer file: " + tokenizerJson);
+        }
+        Map<String, Object> json = (Map<String, Object>) root;
+        Map<String, Object> model = (Map<String, Object>) json.get("model");
+        if (!"BPE".equals(model.get("type"))) {
+            throw new IOException("Unsupported tokenizer model " + model.get("type") + " in " + tokenizerJson);
+        }
+
+        Map<String, Integer> vocab = new HashMap<>();
+        ((Map<String, Object>) model.get("vocab")).forEach((token, id) -> vocab.put(token, ((Number) id).intValue()));
+
+        // Merges are either ["a", "b"] pairs or "a b" strings depending on the tokenizers version
+        List<String[]> mergeList = new ArrayList<>();
+        for (Object merge : (List<Object>) model.get("merges")) {
+            if (merge instanceof List<?> pair) {
+                mergeList.add(new String[]{(String) pair.get(0), (String) pair.get(1)});
+            } else {
+                String text = (String) merge;
+                int space = text.indexOf(' ');
+                mergeList.add(new String[]{text.substring(0, space), text.substring(space + 1)});
+            }
+        }
+
+        Map<String, Integer> addedTokens = new HashMap<>();
+        if (json.get("added_tokens") instanceof List<?> added) {
+            for (Object entry : added) {
+                Map<String, Object> token = (Map<String, Object>) entry;
+                if (Boolean.TRUE.equals(token.get("special"))) {
+                    addedTokens.put((String) token.get("content"), ((Number) token.get("id")).intValue());
+                }
+            }
+        }
+
+        boolean nfc = json.get("normalizer") instanceof Map<?, ?> normalizer && "NFC".equals(normalizer.get("type"));
+        return new BpeTokenizer(vocab, mergeList, addedTokens, (String) model.get("unk_token"), nfc);
+    }
+
+    public int getVocabSize() {
+        return idToToken.length;
+    }
+
+    /**
+     * @return The model ID of a token string, or -1 if it is not in the vocabulary.
+     */
+    public int tokenToId(String token) {
+        return vocab.getOrDefault(token, -1);
+    }
+
+    public String idToToken(int id) {
+        return id >= 0 && id < idToToken.length ? idToToken[id] : null;
+    }
+
+    /**
+     * Tokenizes PUA text exactly like the Hugging Face tokenizer does, including mapping every char outside
+     * the vocabulary (such as the '\n' after each newline token) to the unknown token.
+     *
+     * @param text PUA text, e.g. the output of {@link ModelTokenCodec#encodeFileToUnicodeString(String)}.
+     * @param out  Buffer the model IDs are appended to.
+     */
+    public void encode(CharSequence text, TokenIdBuffer out) {
+        if (nfc && !Normalizer.isNormalized(text, Normalizer.Form.NFC)) {
+            text = Normalizer.normalize(text, Normalizer.Form.NFC);
+        }
+
+        int[] symbols = new int[text.length()];
+        int count = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+                Integer id = vocab.get(text.subSequence(i, i + 2).toString());
+                symbols[count++] = id != null ? id : unkId;
+                i++;
+            } else {
+                symbols[count++] = charToId[c] >= 0 ? charToId[c] : unkId;
+            }
+        }
+        mergeAll(symbols, count, out);
+    }
+
+    /**
+     * Tokenizes codec IDs straight into model IDs, skipping the PUA string. Gives the same result as running
+     * {@link #encode(CharSequence, TokenIdBuffer)} on the codec's PUA output, line break after each newline included.
+     *
+     * @param codecIds  IDs from {@link ModelTokenCodec#encodeToIds(CharSequence, TokenIdBuffer)}.
+     * @param newlineId The codec's newline ID, see {@link ModelTokenCodec#getNewlineId()}.
+     * @param out       Buffer the model IDs are appended to.
+     */
+    public void encodeCodecIds(TokenIdBuffer codecIds, short newlineId, TokenIdBuffer out) {
+        short[] ids = codecIds.array();
+        int lineBreakId = charToId['\n'] >= 0 ? charToId['\n'] : unkId;
+
+        int[] symbols = new int[codecIds.size() * 2];
+        int count = 0;
+        for (int i = 0; i < codecIds.size(); i++) {
+            int symbol = ids[i] >= 0 && ids[i] <= Character.MAX_VALUE - ModelTokenCodec.PUA_START
+                    ? charToId[ModelTokenCodec.PUA_START + ids[i]] : -1;
+            symbols[count++] = symbol >= 0 ? symbol : unkId;
+            if (ids[i] == newlineId) {
+                symbols[count++] = lineBreakId;
+            }
+        }
+        mergeAll(symbols, count, out);
+    }
+
+    /**
+     * Expands model IDs back into codec IDs. Special tokens and chars outside the PUA alphabet are dropped,
+     * which matches decoding with {@code skip_special_tokens=True} and stripping the line breaks.
+     *
+     * @param modelIds Array holding the model IDs.
+     * @param offset   Index of the first ID.
+     * @param length   Number of IDs.
+     * @param out      Buffer the codec IDs are appended to.
+     */
+    public void decodeToCodecIds(short[] modelIds, int offset, int length, TokenIdBuffer out) {
+        for (int i = offset; i < offset + length; i++) {
+            int id = modelIds[i];
+            if (id < 0 || id >= idToToken.length) {
+                continue;
+            }
+            for (int j = codecIdOffsets[id]; j < codecIdOffsets[id + 1]; j++) {
+                out.add(codecIds[j]);
+            }
+        }
+    }
+
+    /**
+     * Applies merges to a sequence of initial symbols. Symbols form a doubly linked list over array slots,
+     * merged-away slots get length 0. Queue entries are (rank << 32 | slot) and are checked again on pop,
+     * since merges around them may have invalidated the pair.
+     */
+    private void mergeAll(int[] symbols, int count, TokenIdBuffer out) {
+        int[] next = new int[count];
+        int[] prev = new int[count];
+        boolean[] removed = new boolean[count];
+        for (int i = 0; i < count; i++) {
+            next[i] = i + 1 < count ? i + 1 : -1;
+            prev[i] = i - 1;
+        }
+
+        LongHeap queue = new LongHeap(count);
+        for (int i = 0; i + 1 < count; i++) {
+            pushPair(queue, symbols, i, i + 1);
+        }
+
+        while (!queue.isEmpty()) {
+            long entry = queue.poll();
+            int rank = (int) (entry >>> 32);
+            int slot = (int) entry;
+            int right = next[slot];
+            if (removed[slot] || right == -1) {
+                continue;
+            }
+
+            long merge = merges.get(symbols[slot], symbols[right]);
+            if (merge == NO_MERGE || (int) (merge >>> 32) != rank) {
+                continue; // Stale entry, one side of the pair has changed
+            }
+
+            symbols[slot] = (int) merge;
+            removed[right] = true;
+            next[slot] = next[right];
+            if (next[right] != -1) {
+                prev[next[right]] = slot;
+            }
+
+            if (prev[slot] != -1) {
+                pushPair(queue, symbols, prev[slot], slot);
+            }
+            if (next[slot] != -1) {
+                pushPair(queue, symbols, slot, next[slot]);
+            }
+        }
+
+        for (int i = 0; i != -1 && count > 0; i = next[i]) {
+            if (symbols[i] >= 0) {
+                out.add((short) symbols[i]);
+            }
+        }
+    }
+
+    private void pushPair(LongHeap queue, int[] symbols, int left, int right) {
+        long merge = merges.get(symbols[left], symbols[right]);
+        if (merge != NO_MERGE) {
+            queue.add((merge >>> 32) << 32 | left);
+        }
+    }
+
+    /**
+     * Open-addressing hash table from a pair of token IDs to (rank << 32 | merged id), without boxing.
+     */
+    private static class PairTable {
+        private final long[] keys;
+        private final long[] values;
+        private final int mask;
+
+        PairTable(int expected) {
+            int capacity = Integer.highestOneBit(Math.max(expected, 8) * 2);
+            keys = new long[capacity];
+            values = new long[capacity];
+            Arrays.fill(keys, -1L);
+            mask = capacity - 1;
+        }
+
+        void put(int left, int right, int rank, int merged) {
+            long key = (long) left << 32 | (right & 0xFFFFFFFFL);
+            int slot = mix(key) & mask;
+            while (keys[slot] != -1L && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            if (keys[slot] == -1L) {
+                keys[slot] = key;
+                values[slot] = (long) rank << 32 | (merged & 0xFFFFFFFFL);
+            } // Duplicate merges keep the first (lowest) rank
+        }
+
+        long get(int left, int right) {
+            if (left < 0 || right < 0) {
+                return NO_MERGE;
+            }
+            long key = (long) left << 32 | (right & 0xFFFFFFFFL);
+            int slot = mix(key) & mask;
+            while (keys[slot] != -1L) {
+                if (keys[slot] == key) {
+                    return values[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+            return NO_MERGE;
+        }
+
+        private static int mix(long key) {
+            key *= 0x9E3779B97F4A7C15L;
+            return (int) (key ^ (key >>> 32));
+        }
+    }
+
+    /**
+     * Binary min-heap of primitive longs.
+     */
+    private static class LongHeap {
+        private long[] heap;
+        private int size;
+
+        LongHeap(int capacity) {
+            heap = new long[Math.max(capacity, 16)];
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void add(long value) {
+            if (size == heap.length) {
+                heap = Arrays.copyOf(heap, size * 2);
+            }
+            int i = size++;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (heap[parent] <= value) {
+                    break;
+                }
+                heap[i] = heap[parent];
+                i = parent;
+            }
+            heap[i] = value;
+        }
+
+        long poll() {
+            long top = heap[0];
+            long last = heap[--size];
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && heap[child + 1] < heap[child]) {
+                    child++;
+                }
+                if (last <= heap[child]) {
+                    break;
+                }
+                heap[i] = heap[child];
+                i = child;
+            }
+            heap[i] = last;
+            return top;
+        }
+    }
+
+    /**
+     * Minimal JSON reader, just enough for tokenizer files. Objects become maps, arrays lists,
+     * numbers {@link Long} or {@link Double}.
+     */
+    private static class JsonReader {
+        private final String text;
+        private int pos;
+
+        JsonReader(String text) {
+            this.text = text;
+        }
+
+        Object readDocument() throws IOException {
+            Object value = readValue();
+            skipWhitespace();
+            if (pos != text.length()) {
+                throw error("Trailing data");
+            }
+            return value;
+        }
+
+        private Object readValue() throws IOException {
+            skipWhitespace();
+            if (pos >= text.length()) {
+                throw error("Unexpected end of input");
+            }
+            char c = text.charAt(pos);
+            switch (c) {
+                case '{':
+                    return readObject();
+                case '[':
+                    return readArray();
+                case '"':
+                    return readString();
+                case 't':
+                    expect("true");
+                    return Boolean.TRUE;
+                case 'f':
+                    expect("false");
+                    return Boolean.FALSE;
+                case 'n':
+                    expect("null");
+                    return null;
+                default:
+                    return readNumber();
+            }
+        }
+
+        private Map<String, Object> readObject() throws IOException {
+            Map<String, Object> map = new LinkedHashMap<>();
+            pos++; // {
+            skipWhitespace();
+            if (peek() == '}') {
+                pos++;
+                return map;
+            }
+            while (true) {
+                skipWhitespace();
+                if (peek() != '"') {
+                    throw error("Expected object key");
+                }
+                String key = readString();
+                skipWhitespace();
+                if (peek() != ':') {
+                    throw error("Expected ':'");
+                }
+                pos++;
+                map.put(key, readValue());
+                skipWhitespace();
+                char c = peek();
+                pos++;
+                if (c == '}') {
+                    return map;
+                }
+                if (c != ',') {
+                    throw error("Expected ',' or '}'");
+                }
+            }
+        }
+
+        private List<Object> readArray() throws IOException {
+            List<Object> list = new ArrayList<>();
+            pos++; // [
+            skipWhitespace();
+            if (peek() == ']') {
+                pos++;
+                return list;
+            }
+            while (true) {
+                list.add(readValue());
+                skipWhitespace();
+                char c = peek();
+                pos++;
+                if (c == ']') {
+                    return list;
+                }
+                if (c != ',') {
+                    throw error("Expected ',' or ']'");
+                }
+            }
+        }
+
+        private String readString() throws IOException {
+            pos++; // Opening quote
+            StringBuilder sb = new StringBuilder();
+            while (true) {
+                if (pos >= text.length()) {
+                    throw error("Unterminated string");
+                }
+                char c = text.charAt(pos++);
+                if (c == '"') {
+                    return sb.toString();
+                }
+                if (c != '\\') {
+                    sb.append(c);
+                    continue;
+                }
+                char escape = text.charAt(pos++);
+                switch (escape) {
+                    case 'b' -> sb.append('\b');
+                    case 'f' -> sb.append('\f');
+                    case 'n' -> sb.append('\n');
+                    case 'r' -> sb.append('\r');
+                    case 't' -> sb.append('\t');
+                    case 'u' -> {
+                        sb.append((char) Integer.parseInt(text.substring(pos, pos + 4), 16));
+                        pos += 4;
+                    }
+                    default -> sb.append(escape); // \" \\ \/
+                }
+            }
+        }
+
+        private Object readNumber() throws IOException {
+            int start = pos;
+            while (pos < text.length() && "+-0123456789.eE".indexOf(text.charAt(pos)) >= 0) {
+                pos++;
+            }
+            String number = text.substring(start, pos);
+            try {
+                if (number.contains(".") || number.contains("e") || number.contains("E")) {
+                    return Double.parseDouble(number);
+                }
+                return Long.parseLong(number);
+            } catch (NumberFormatException e) {
+                throw error("Invalid value");
+            }
+        }
+
+        private void expect(String literal) throws IOException {
+            if (!text.startsWith(literal, pos)) {
+                throw error("Invalid literal");
+            }
+            pos += literal.length();
+        }
+
+        private char peek() throws IOException {
+            if (pos >= text.length()) {
+                throw error("Unexpected end of input");
+            }
+            return text.charAt(pos);
+        }
+
+        private void skipWhitespace() {
+            while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+                pos++;
+            }
+        }
+
+        private IOException error(String message) {
+            return new IOException(message + " at offset " + pos);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.codelm;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.misc.Interval;
+
+/**
+ * ANTLR {@link CharStream} that reads straight from a {@link CharSequence} instead of copying it
+ * like {@code CharStreams.fromString} does. Indices are UTF-16 char offsets, so token start/stop
+ * positions line up with {@link String} offsets. The sequence may be mutated between lexer runs
+ * but not while a lexer is reading it, and {@link #reset(CharSequence)} points the stream at new text.
+ */
+public class CharSequenceCharStream implements CharStream {
+    protected CharSequence data;
+    protected int position;
+
+    public CharSequenceCharStream(CharSequence data) {
+        this.data = data;
+    }
+
+    /**
+     * Reads {@code data} from the start, for reuse across inputs.
+     */
+    public void reset(CharSequence data) {
+        this.data = data;
+        this.position = 0;
+    }
+
+    @Override
+    public String getText(Interval interval) {
+        int start = interval.a;
+        int stop = Math.min(interval.b, data.length() - 1);
+        if (start >= data.length() || stop < start) {
+            return "";
+        }
+        return data.subSequence(start, stop + 1).toString();
+    }
+
+    @Override
+    public void consume() {
+        if (position >= data.length()) {
+            throw new IllegalStateException("cannot consume EOF");
+        }
+        position++;
+    }
+
+    @Override
+    public int LA(int i) {
+        int offset;
+        if (i > 0) {
+            offset = position + i - 1;
+        } else if (i < 0) {
+            offset = position + i;
+        } else {
+            return 0; // Undefined
+        }
+        if (offset < 0 || offset >= data.length()) {
+            return IntStream.EOF;
+        }
+        return data.charAt(offset);
+    }
+
+    @Override
+    public int mark() {
+        return -1; // Everything is buffered already, nothing to mark
+    }
+
+    @Override
+    public void release(int marker) {
+    }
+
+    @Override
+    public int index() {
+        return position;
+    }
+
+    @Override
+    public void seek(int index) {
+        position = index;
+    }
+
+    @Override
+    public int size() {
+        return data.length();
+    }
+
+    @Override
+    public String getSourceName() {
+        return IntStream.UNKNOWN_SOURCE_NAME;
+    }
+}
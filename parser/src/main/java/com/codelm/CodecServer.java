@@ -0,0 +1,172 @@
+package com.codelm;
+
+import java.io.*;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Long-running encode/decode server around a single warmed-up {@link ModelTokenCodec}.
+ * Avoids paying JVM startup, ANTLR ATN deserialization and vocabulary construction on every call.
+ * <p>
+ * Every request and response is a frame of one opcode byte, a 4-byte big-endian payload length and a UTF-8 payload.
+ * Request opcodes are {@link #OP_ENCODE}, {@link #OP_DECODE}, {@link #OP_ENCODE_IDS}, {@link #OP_DECODE_IDS} and
+ * {@link #OP_QUIT}.
+ * Responses carry {@link #STATUS_OK} with the result or {@link #STATUS_ERROR} with an error message.
+ * The ID opcodes exchange big-endian uint16 model token IDs instead of PUA text, so an odd-length ID payload is an
+ * error. Text results carry no trailing newline, unlike the one-shot {@code encode} and {@code decode} commands.
+ */
+public class CodecServer {
+    public static final byte OP_ENCODE = 'E';
+    public static final byte OP_DECODE = 'D';
+    public static final byte OP_ENCODE_IDS = 'e'; // Java text in, IDs out
+    public static final byte OP_DECODE_IDS = 'd'; // IDs in, Java text out
+    public static final byte OP_QUIT = 'Q';
+
+    public static final byte STATUS_OK = 'O';
+    public static final byte STATUS_ERROR = 'X';
+
+    // Guards against a corrupted length prefix allocating an absurd buffer
+    private static final int MAX_FRAME_BYTES = 64 * 1024 * 1024;
+
+    private final ModelTokenCodec codec;
+
+    // Per connection thread, reused across requests
+    private final ThreadLocal<TokenIdBuffer> idBuffers = ThreadLocal.withInitial(TokenIdBuffer::new);
+
+    public CodecServer(ModelTokenCodec codec) {
+        this.codec = codec;
+    }
+
+    /**
+     * Serves requests over the process' stdin/stdout until EOF or a quit frame.
+     * Nothing else may write to stdout while serving, diagnostics go to stderr.
+     */
+    public void serveStdio() throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(FileDescriptor.in)));
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out)));
+        serve(in, out);
+    }
+
+    /**
+     * Serves requests on a Unix-domain socket, one thread per connected client.
+     * A stale socket file left by a previous run is replaced.
+     *
+     * @param socketPath Path of the socket file to bind.
+     */
+    public void serveUnixSocket(Path socketPath) throws IOException {
+        Files.deleteIfExists(socketPath);
+        try (ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+            server.bind(UnixDomainSocketAddress.of(socketPath));
+            System.err.println("Codec server listening on " + socketPath);
+
+            while (true) {
+                SocketChannel client = server.accept();
+                Thread.ofVirtual().start(() -> {
+                    try (client) {
+                        DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(client)));
+                        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(client)));
+                        serve(in, out);
+                    } catch (IOException e) {
+                        System.err.println("Codec client disconnected: " + e.getMessage());
+                    }
+                });
+            }
+        } finally {
+            Files.deleteIfExists(socketPath);
+        }
+    }
+
+    /**
+     * Runs one request of each opcode for the given Java source through the frame loop in memory, so every class a
+     * real session loads gets loaded. Used as the training run of the class-data archive.
+     */
+    public void replay(String javaSource) throws IOException {
+        TokenIdBuffer ids = new TokenIdBuffer();
+        codec.encodeToIds(javaSource, ids);
+        ByteArrayOutputStream requests = new ByteArrayOutputStream();
+        DataOutputStream frames = new DataOutputStream(requests);
+        writeFrame(frames, OP_ENCODE, javaSource);
+        writeFrame(frames, OP_DECODE, codec.encodeFileToUnicodeString(javaSource));
+        writeFrame(frames, OP_ENCODE_IDS, javaSource);
+        frames.writeByte(OP_DECODE_IDS);
+        frames.writeInt(ids.size() * 2);
+        for (int i = 0; i < ids.size(); i++) {
+            frames.writeShort(ids.array()[i]);
+        }
+        frames.writeByte(OP_QUIT);
+
+        serve(new DataInputStream(new ByteArrayInputStream(requests.toByteArray())),
+                new DataOutputStream(OutputStream.nullOutputStream()));
+    }
+
+    /**
+     * Request loop shared by both transports. Returns on EOF or a quit frame.
+     */
+    void serve(DataInputStream in, DataOutputStream out) throws IOException {
+        while (true) {
+            int op = in.read();
+            if (op == -1 || op == OP_QUIT) {
+                return;
+            }
+
+            int length = in.readInt();
+            if (length < 0 || length > MAX_FRAME_BYTES) {
+                throw new IOException("Invalid frame length: " + length);
+            }
+            byte[] payload = in.readNBytes(length);
+            if (payload.length != length) {
+                throw new EOFException("Truncated frame, expected " + length + " bytes but got " + payload.length);
+            }
+
+            try {
+                switch (op) {
+                    case OP_ENCODE -> writeFrame(out, STATUS_OK, codec.encodeFileToUnicodeString(utf8(payload)));
+                    case OP_DECODE -> writeFrame(out, STATUS_OK, codec.decodeUnicodeStringToJava(utf8(payload)));
+                    case OP_ENCODE_IDS -> {
+                        TokenIdBuffer ids = idBuffers.get();
+                        ids.clear();
+                        codec.encodeToIds(utf8(payload), ids);
+                        out.writeByte(STATUS_OK);
+                        out.writeInt(ids.size() * 2);
+                        for (int i = 0; i < ids.size(); i++) {
+                            out.writeShort(ids.array()[i]);
+                        }
+                        out.flush();
+                    }
+                    case OP_DECODE_IDS -> {
+                        if (payload.length % 2 != 0) {
+                            throw new IllegalArgumentException("ID payload has an odd length: " + payload.length);
+                        }
+                        TokenIdBuffer ids = idBuffers.get();
+                        ids.clear();
+                        for (int i = 0; i < payload.length; i += 2) {
+                            ids.add((short) ((payload[i] << 8) | (payload[i + 1] & 0xFF)));
+                        }
+                        writeFrame(out, STATUS_OK, codec.decodeIds(ids.array(), 0, ids.size()));
+                    }
+                    default -> throw new IllegalArgumentException("Unknown opcode: " + (char) op);
+                }
+            } catch (Exception e) {
+                writeFrame(out, STATUS_ERROR, String.valueOf(e.getMessage()));
+            }
+        }
+    }
+
+    private static String utf8(byte[] payload) {
+        return new String(payload, StandardCharsets.UTF_8);
+    }
+
+    private static void writeFrame(DataOutputStream out, byte status, String payload) throws IOException {
+        byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
+        out.writeByte(status);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+        out.flush();
+    }
+}
@@ -0,0 +1,108 @@
+package com.codelm;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Append-only writer for one binary corpus shard, replacing a directory tree of per-file {@code _unicode.txt} files.
+ * A shard is two files that training code can memory-map directly:
+ * <ul>
+ *     <li>{@code <name>.bin} - every document's token IDs back to back, little-endian uint16</li>
+ *     <li>{@code <name>.idx} - little-endian int64 token offsets, document {@code i} is
+ *     {@code [idx[i], idx[i + 1])}, so there is one more offset than documents</li>
+ * </ul>
+ * Writes go through a {@link FileChannel} with reusable direct buffers. Appends are synchronized, so
+ * workers can share a shard and only hold the lock for the copy.
+ */
+public class CorpusShardWriter implements Closeable {
+    public static final String TOKENS_EXTENSION = ".bin";
+    public static final String INDEX_EXTENSION = ".idx";
+
+    private static final int TOKEN_BUFFER_BYTES = 1 << 20;
+    private static final int INDEX_BUFFER_BYTES = 1 << 16;
+
+    private final FileChannel tokens;
+    private final FileChannel index;
+    private final ByteBuffer tokenBuffer = ByteBuffer.allocateDirect(TOKEN_BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    private final ByteBuffer indexBuffer = ByteBuffer.allocateDirect(INDEX_BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+
+    private long tokenCount;
+    private long documentCount;
+
+    /**
+     * Creates (or truncates) {@code <basePath>.bin} and {@code <basePath>.idx}.
+     *
+     * @param basePath Shard path without extension, e.g. {@code processed_dataset/processed_part_0001}.
+     */
+    public CorpusShardWriter(Path basePath) throws IOException {
+        String name = basePath.getFileName().toString();
+        this.tokens = FileChannel.open(basePath.resolveSibling(name + TOKENS_EXTENSION),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.index = FileChannel.open(basePath.resolveSibling(name + INDEX_EXTENSION),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        indexBuffer.putLong(0);
+    }
+
+    /**
+     * Appends one document.
+     */
+    public void append(TokenIdBuffer ids) throws IOException {
+        append(ids.array(), 0, ids.size());
+    }
+
+    /**
+     * Appends one document.
+     *
+     * @param ids    Array holding the token IDs.
+     * @param offset Index of the first ID.
+     * @param length Number of IDs.
+     */
+    public synchronized void append(short[] ids, int offset, int length) throws IOException {
+        while (length > 0) {
+            if (tokenBuffer.remaining() < 2) {
+                flush(tokens, tokenBuffer);
+            }
+            int chunk = Math.min(length, tokenBuffer.remaining() / 2);
+            tokenBuffer.asShortBuffer().put(ids, offset, chunk);
+            tokenBuffer.position(tokenBuffer.position() + chunk * 2);
+            offset += chunk;
+            length -= chunk;
+            tokenCount += chunk;
+        }
+
+        if (indexBuffer.remaining() < Long.BYTES) {
+            flush(index, indexBuffer);
+        }
+        indexBuffer.putLong(tokenCount);
+        documentCount++;
+    }
+
+    public synchronized long getTokenCount() {
+        return tokenCount;
+    }
+
+    public synchronized long getDocumentCount() {
+        return documentCount;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try (tokens; index) {
+            flush(tokens, tokenBuffer);
+            flush(index, indexBuffer);
+        }
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
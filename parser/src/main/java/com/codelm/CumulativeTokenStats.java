@@ -1,93 +1,212 @@
 package com.codelm;
 
+import com.github.javaparser.JavaToken;
+
+import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.FileWriter;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Token statistics of the whole dataset, updated from many worker threads at once.
+ * <p>
+ * Every thread adds into its own {@link Accumulator} with token categories counted in a {@code long[]} indexed by
+ * {@link JavaToken.Category} ordinal, so updates neither contend nor box. The accumulators are merged when the
+ * stats are read, which is exact once the updating threads are done, e.g. after their executor has been closed.
+ * <p>
+ * {@link #save(Path)} and {@link #load(Path)} keep the stats of part of the dataset across runs, to be merged later.
+ */
 public class CumulativeTokenStats {
+    private static final JavaToken.Category[] CATEGORIES = JavaToken.Category.values();
 
-    private long totalTokens;
-    private Map<String, Long> tokenTypeCounts;
-    private long totalLiteralChars;
-    private int maxLiteralChars;
-    private long totalStringLiterals;
-    private long totalIdentifierChars;
-    private int maxIdentifierChars;
-    private long totalBytes;
-    private long totalLiteralBytes;
-    private long totalIdentifierBytes;
-
-    public CumulativeTokenStats() {
-        this.totalTokens = 0;
-        this.tokenTypeCounts = new HashMap<>();
-        this.totalLiteralChars = 0;
-        this.maxLiteralChars = 0;
-        this.totalStringLiterals = 0;
-        this.totalIdentifierChars = 0;
-        this.maxIdentifierChars = 0;
-        this.totalBytes = 0;
-        this.totalLiteralBytes = 0;
-        this.totalIdentifierBytes = 0;
-    }
+    // Every accumulator ever handed out, so the counts of finished threads are kept
+    private final Queue<Accumulator> accumulators = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Accumulator> localAccumulator = ThreadLocal.withInitial(() -> {
+        Accumulator accumulator = new Accumulator();
+        accumulators.add(accumulator);
+        return accumulator;
+    });
 
     public void update(TokenAnalyzer.TokenStats stats) {
-        totalTokens += stats.totalTokens;
-
-        for (Map.Entry<String, Integer> entry : stats.tokenTypeCounts.entrySet()) {
-            String key = entry.getKey();
-            int value = entry.getValue();
-            tokenTypeCounts.put(key, tokenTypeCounts.getOrDefault(key, 0L) + value);
-        }
+        localAccumulator.get().add(stats);
+    }
 
-        totalLiteralChars += stats.totalLiteralChars;
+    /**
+     * Adds the stats of another part of the dataset.
+     */
+    public void merge(CumulativeTokenStats other) {
+        Accumulator merged = other.snapshot();
+        accumulators.add(merged);
+    }
 
-        if (stats.maxLiteralChars > maxLiteralChars) {
-            maxLiteralChars = stats.maxLiteralChars;
+    /**
+     * Writes the raw counters as {@code name=value} lines, categories by name.
+     */
+    public void save(Path path) throws IOException {
+        Accumulator stats = snapshot();
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write("totalTokens=" + stats.totalTokens + "\n");
+            writer.write("totalLiteralChars=" + stats.totalLiteralChars + "\n");
+            writer.write("maxLiteralChars=" + stats.maxLiteralChars + "\n");
+            writer.write("totalStringLiterals=" + stats.totalStringLiterals + "\n");
+            writer.write("totalIdentifierChars=" + stats.totalIdentifierChars + "\n");
+            writer.write("maxIdentifierChars=" + stats.maxIdentifierChars + "\n");
+            writer.write("totalBytes=" + stats.totalBytes + "\n");
+            writer.write("totalLiteralBytes=" + stats.totalLiteralBytes + "\n");
+            writer.write("totalIdentifierBytes=" + stats.totalIdentifierBytes + "\n");
+            for (JavaToken.Category category : CATEGORIES) {
+                writer.write("category." + category.name() + "=" + stats.categoryCounts[category.ordinal()] + "\n");
+            }
         }
+    }
 
-        totalStringLiterals += stats.stringLiteralCount;
+    /**
+     * Reads stats written by {@link #save(Path)}.
+     */
+    public static CumulativeTokenStats load(Path path) throws IOException {
+        Accumulator stats = new Accumulator();
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int separator = line.indexOf('=');
+                if (separator < 0) {
+                    continue;
+                }
+                String name = line.substring(0, separator);
+                long value;
+                try {
+                    value = Long.parseLong(line.substring(separator + 1));
+                } catch (NumberFormatException e) {
+                    throw new IOException("Invalid line in " + path + ": " + line);
+                }
+
+                switch (name) {
+                    case "totalTokens" -> stats.totalTokens = value;
+                    case "totalLiteralChars" -> stats.totalLiteralChars = value;
+                    case "maxLiteralChars" -> stats.maxLiteralChars = (int) value;
+                    case "totalStringLiterals" -> stats.totalStringLiterals = value;
+                    case "totalIdentifierChars" -> stats.totalIdentifierChars = value;
+                    case "maxIdentifierChars" -> stats.maxIdentifierChars = (int) value;
+                    case "totalBytes" -> stats.totalBytes = value;
+                    case "totalLiteralBytes" -> stats.totalLiteralBytes = value;
+                    case "totalIdentifierBytes" -> stats.totalIdentifierBytes = value;
+                    default -> {
+                        if (!name.startsWith("category.")) {
+                            throw new IOException("Unknown counter in " + path + ": " + name);
+                        }
+                        JavaToken.Category category;
+                        try {
+                            category = JavaToken.Category.valueOf(name.substring("category.".length()));
+                        } catch (IllegalArgumentException e) {
+                            throw new IOException("Unknown token category in " + path + ": " + name);
+                        }
+                        stats.categoryCounts[category.ordinal()] = value;
+                    }
+                }
+            }
+        }
 
-        totalIdentifierChars += stats.totalIdentifierChars;
+        CumulativeTokenStats loaded = new CumulativeTokenStats();
+        loaded.accumulators.add(stats);
+        return loaded;
+    }
 
-        if (stats.maxIdentifierChars > maxIdentifierChars) {
-            maxIdentifierChars = stats.maxIdentifierChars;
+    /**
+     * Merges the accumulators of all threads.
+     */
+    private Accumulator snapshot() {
+        Accumulator total = new Accumulator();
+        for (Accumulator accumulator : accumulators) {
+            total.merge(accumulator);
         }
-
-        totalBytes += stats.totalBytes;
-        totalLiteralBytes += stats.totalLiteralBytes;
-        totalIdentifierBytes += stats.totalIdentifierBytes;
+        return total;
     }
 
     public void writeStatsToFile(String filePath) throws IOException {
+        Accumulator stats = snapshot();
         try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath))) {
-            writer.write("Total tokens: " + totalTokens + "\n");
+            writer.write("Total tokens: " + stats.totalTokens + "\n");
             writer.write("Token type breakdown:\n");
-            for (Map.Entry<String, Long> entry : tokenTypeCounts.entrySet()) {
-                writer.write(entry.getKey() + ": " + entry.getValue() + "\n");
+            for (JavaToken.Category category : CATEGORIES) {
+                long count = stats.categoryCounts[category.ordinal()];
+                if (count > 0) {
+                    writer.write(category + ": " + count + "\n");
+                }
             }
 
             // Calculating the average literal/identifier lengths
-            double avgLiteralLength = totalStringLiterals > 0 ? (double) totalLiteralChars / totalStringLiterals : 0;
-            double avgIdentifierLength = tokenTypeCounts.getOrDefault("IDENTIFIER", 0L) > 0 ?
-                    (double) totalIdentifierChars / tokenTypeCounts.get("IDENTIFIER") : 0;
+            long identifierCount = stats.categoryCounts[JavaToken.Category.IDENTIFIER.ordinal()];
+            double avgLiteralLength = stats.totalStringLiterals > 0 ? (double) stats.totalLiteralChars / stats.totalStringLiterals : 0;
+            double avgIdentifierLength = identifierCount > 0 ? (double) stats.totalIdentifierChars / identifierCount : 0;
 
             writer.write("\nLiteral stats:\n");
-            writer.write("Total literal bytes: " + totalLiteralBytes + "\n");
-            writer.write("Total literal chars: " + totalLiteralChars + "\n");
+            writer.write("Total literal bytes: " + stats.totalLiteralBytes + "\n");
+            writer.write("Total literal chars: " + stats.totalLiteralChars + "\n");
             writer.write("Average literal chars: " + avgLiteralLength + "\n");
-            writer.write("Max literal chars: " + maxLiteralChars + "\n");
+            writer.write("Max literal chars: " + stats.maxLiteralChars + "\n");
 
             writer.write("\nIdentifier stats:\n");
-            writer.write("Total identifier bytes: " + totalIdentifierBytes + "\n");
-            writer.write("Total identifier chars: " + totalIdentifierChars + "\n");
+            writer.write("Total identifier bytes: " + stats.totalIdentifierBytes + "\n");
+            writer.write("Total identifier chars: " + stats.totalIdentifierChars + "\n");
             writer.write("Average identifier chars: " + avgIdentifierLength + "\n");
-            writer.write("Max identifier chars: " + maxIdentifierChars + "\n");
+            writer.write("Max identifier chars: " + stats.maxIdentifierChars + "\n");
+
+            writer.write("\nTotal bytes (all tokens): " + stats.totalBytes + "\n");
+        }
+    }
+
+    // Counts of one thread, only written by that thread
+    private static class Accumulator {
+        private long totalTokens;
+        private final long[] categoryCounts = new long[CATEGORIES.length];
+        private long totalLiteralChars;
+        private int maxLiteralChars;
+        private long totalStringLiterals;
+        private long totalIdentifierChars;
+        private int maxIdentifierChars;
+        private long totalBytes;
+        private long totalLiteralBytes;
+        private long totalIdentifierBytes;
+
+        void add(TokenAnalyzer.TokenStats stats) {
+            totalTokens += stats.totalTokens;
+            for (int i = 0; i < categoryCounts.length; i++) {
+                categoryCounts[i] += stats.categoryCounts[i];
+            }
+
+            totalLiteralChars += stats.totalLiteralChars;
+            maxLiteralChars = Math.max(maxLiteralChars, stats.maxLiteralChars);
+            totalStringLiterals += stats.stringLiteralCount;
+
+            totalIdentifierChars += stats.totalIdentifierChars;
+            maxIdentifierChars = Math.max(maxIdentifierChars, stats.maxIdentifierChars);
+
+            totalBytes += stats.totalBytes;
+            totalLiteralBytes += stats.totalLiteralBytes;
+            totalIdentifierBytes += stats.totalIdentifierBytes;
+        }
+
+        void merge(Accumulator other) {
+            totalTokens += other.totalTokens;
+            for (int i = 0; i < categoryCounts.length; i++) {
+                categoryCounts[i] += other.categoryCounts[i];
+            }
+
+            totalLiteralChars += other.totalLiteralChars;
+            maxLiteralChars = Math.max(maxLiteralChars, other.maxLiteralChars);
+            totalStringLiterals += other.totalStringLiterals;
+
+            totalIdentifierChars += other.totalIdentifierChars;
+            maxIdentifierChars = Math.max(maxIdentifierChars, other.maxIdentifierChars);
 
-            writer.write("\nTotal bytes (all tokens): " + totalBytes + "\n");
+            totalBytes += other.totalBytes;
+            totalLiteralBytes += other.totalLiteralBytes;
+            totalIdentifierBytes += other.totalIdentifierBytes;
         }
     }
 }
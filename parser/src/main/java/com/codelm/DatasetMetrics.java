@@ -2,30 +2,26 @@ package com.codelm;
 
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.nio.CharBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipFile;
 import java.util.zip.ZipOutputStream;
 
 /**
  * Measure dataset size and number of files from zip archives
  */
 public class DatasetMetrics {
-    // Set thread pool size to the number of CPU cores
-    private static final int THREAD_POOL_SIZE = Runtime.getRuntime().availableProcessors();
-
-    public static void main(String[] args) throws IOException {
+    public static void main(String[] args) throws IOException, InterruptedException {
         Instant start = Instant.now();
 
         String dirPath = "../data/test";
@@ -40,29 +36,48 @@ public class DatasetMetrics {
         // Thread safe counters
         AtomicLong count = new AtomicLong(0);
         AtomicLong totalSize = new AtomicLong(0);
+        Deduplicator deduplicator = Deduplicator.fromSystemProperties();
+        ThreadLocal<MappedZipFile.EntryReader> entryReaders = ThreadLocal.withInitial(MappedZipFile.EntryReader::new);
+
+        // Caps the files held in memory between reading and checking
+        Semaphore inFlightFiles = new Semaphore(PipelineConfig.IN_FLIGHT_FILES);
+        Semaphore zipReaders = new Semaphore(PipelineConfig.ZIP_READERS);
 
-        // Create a thread pool
-        try (ExecutorService executor = Executors.newFixedThreadPool(THREAD_POOL_SIZE)) {
+        // Zips are read on the I/O executor, the garbage check parses on the CPU pool
+        try (ExecutorService workers = PipelineConfig.newCpuExecutor();
+             ExecutorService io = PipelineConfig.newIoExecutor()) {
             for (Path zipPath : zipPaths) {
-                executor.submit(() -> {
-                    try (ZipFile zipFile = new ZipFile(zipPath.toFile())) {
-                        for (ZipEntry entry : Collections.list(zipFile.entries())) {
-                            try {
-                                byte[] bytes = zipFile.getInputStream(entry).readAllBytes();
-                                String content = new String(bytes, StandardCharsets.UTF_8);
-                                if (filterGarbage && GarbageFileFilter.isGarbage(entry.getName(), content)) {
-                                    System.out.println(entry.getName() + " " + zipFile);
-                                } else {
-                                    count.incrementAndGet();
-                                    totalSize.addAndGet(bytes.length);
+                zipReaders.acquire();
+                io.execute(() -> {
+                    List<Future<?>> checks = new ArrayList<>();
+                    try (MappedZipFile zipFile = MappedZipFile.open(zipPath)) {
+                        for (MappedZipFile.Entry entry : zipFile.entries()) {
+                            // Entries are decoded from the map on the worker, into its reused buffer
+                            inFlightFiles.acquire();
+                            checks.add(workers.submit(() -> {
+                                try {
+                                    CharBuffer content = entryReaders.get().read(zipFile, entry);
+                                    if (filterGarbage && GarbageFileFilter.isGarbage(entry.getName(), content)) {
+                                        System.out.println(entry.getName() + " " + zipPath);
+                                    } else if (!deduplicator.isDuplicate(content)) {
+                                        count.incrementAndGet();
+                                        totalSize.addAndGet(entry.getSize());
+                                    }
+                                } catch (Exception e) {
+                                    System.err.println("Error processing file " + entry.getName() + " in " + zipPath + ": " + e.getMessage());
+                                } finally {
+                                    inFlightFiles.release();
                                 }
-                            } catch (Exception e) {
-                                System.err.println("Error processing file " + entry.getName() + " in " + zipPath + ": " + e.getMessage());
-                            }
+                            }));
+                        }
+                        for (Future<?> check : checks) {
+                            check.get();
                         }
-                        System.out.println("Processed " + count + " entries in " + zipFile + ".");
+                        System.out.println("Processed " + count + " entries in " + zipPath + ".");
                     } catch (Exception e) {
                         System.err.println("Error processing " + zipPath + ": " + e.getMessage());
+                    } finally {
+                        zipReaders.release();
                     }
                 });
             }
@@ -73,7 +88,11 @@ public class DatasetMetrics {
 
         System.out.println("\nTotal Java files: " + count.get());
         System.out.println("Total size: " + totalSize.get() + " MB");
+        System.out.println("Duplicates: " + deduplicator.getExactDuplicates() + " exact, "
+                + deduplicator.getNearDuplicates() + " near");
         Files.writeString(Paths.get(dirPath, "dataset_metrics_filter.txt"), "Total Java files: " +
-                count.get() + "\n" + "Total size: " + totalSize.get() + " MB" + "\n" + "It took " + duration + " mins");
+                count.get() + "\n" + "Total size: " + totalSize.get() + " MB" + "\n" + "Duplicates: " +
+                deduplicator.getExactDuplicates() + " exact, " + deduplicator.getNearDuplicates() + " near\n" +
+                "It took " + duration + " mins");
     }
 }
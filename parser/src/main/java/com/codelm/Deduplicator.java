@@ -0,0 +1,431 @@
+package com.codelm;
+
+import com.codelm.antlr.JavaLexer;
+import org.antlr.v4.runtime.Token;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongConsumer;
+
+/**
+ * Drops exact and near-duplicate files before they are cleaned, formatted and encoded.
+ * <p>
+ * Files are fingerprinted from a single ANTLR lexer pass that ignores whitespace, comments and annotations,
+ * i.e. what {@link Parser#parseCleaned(String)} would remove, so copies that only differ there are still exact
+ * duplicates. Near duplicates are found with MinHash over 5-token shingles and LSH banding
+ * ({@value #BANDS} bands of {@value #ROWS} rows, files sharing any band are taken as duplicates, which catches
+ * pairs above roughly 0.7 Jaccard similarity), for files of at least {@value #MIN_NEAR_SHINGLES} shingles.
+ * <p>
+ * Fingerprints go into fixed-size off-heap hash sets updated with CAS, so all workers share them without locks
+ * and the heap does not grow with the corpus. Files handed to the workers with {@link #execute(Executor, LongConsumer)}
+ * are fingerprinted in parallel but looked up in the sets in submission order, so the first submitted copy is kept
+ * whatever the scheduling and a run gives the same output every time. Plain {@link #isDuplicate(CharSequence)} keeps
+ * whichever copy is checked first. Configured with system properties:
+ * <ul>
+ *     <li>{@code codelm.dedup} - {@code off}, {@code exact} (default) or {@code near} (exact and near duplicates)</li>
+ *     <li>{@code codelm.dedupExpectedFiles} - number of files the sets are sized for (default: 1M). Sets are capped at
+ *     1 GiB each, which holds about 64M files in exact mode and 4M in near mode, where every file adds a hash per
+ *     band</li>
+ * </ul>
+ */
+public class Deduplicator {
+    public enum Mode { OFF, EXACT, NEAR }
+
+    // Turn of a file checked in no particular order
+    public static final long NO_TURN = -1;
+
+    private static final int SHINGLE_TOKENS = 5;
+    private static final int BANDS = 16;
+    private static final int ROWS = 8;
+    private static final int MIN_HASHES = BANDS * ROWS;
+    // Tiny files (empty annotation types, marker exceptions...) all look alike, they are only deduplicated exactly
+    private static final int MIN_NEAR_SHINGLES = 64;
+
+    // Random odd multipliers and offsets of the MinHash permutations, fixed so runs are reproducible
+    private static final long[] PERMUTATION_MULTIPLIERS = new long[MIN_HASHES];
+    private static final long[] PERMUTATION_OFFSETS = new long[MIN_HASHES];
+
+    static {
+        long seed = 0x5DEECE66DL;
+        for (int i = 0; i < MIN_HASHES; i++) {
+            seed = mix(seed + 0x9E3779B97F4A7C15L);
+            PERMUTATION_MULTIPLIERS[i] = seed | 1;
+            seed = mix(seed + 0x9E3779B97F4A7C15L);
+            PERMUTATION_OFFSETS[i] = seed;
+        }
+    }
+
+    private final Mode mode;
+    private final OffHeapLongSet exactHashes;
+    private final OffHeapLongSet bandHashes;
+    private final LongAdder exactDuplicates = new LongAdder();
+    private final LongAdder nearDuplicates = new LongAdder();
+
+    // Turns are handed out under submitLock and passed in order under passLock. Only the thread holding
+    // currentTurn touches the sets in ordered mode; later turns wait parked, earlier ones passed without
+    // a lookup (garbage, failed files) are remembered until currentTurn reaches them.
+    private final Object submitLock = new Object();
+    private final Object passLock = new Object();
+    private long nextTurn;
+    private volatile long currentTurn;
+    private final Set<Long> passedEarly = new HashSet<>();
+    private final ConcurrentHashMap<Long, Thread> waiting = new ConcurrentHashMap<>();
+
+    public Deduplicator(Mode mode, int expectedFiles) {
+        this.mode = mode;
+        this.exactHashes = mode != Mode.OFF ? new OffHeapLongSet(expectedFiles) : null;
+        this.bandHashes = mode == Mode.NEAR ? new OffHeapLongSet((long) expectedFiles * BANDS) : null;
+    }
+
+    public static Deduplicator fromSystemProperties() {
+        Mode mode = Mode.valueOf(System.getProperty("codelm.dedup", "exact").toUpperCase(Locale.ROOT));
+        return new Deduplicator(mode, Integer.getInteger("codelm.dedupExpectedFiles", 1 << 20));
+    }
+
+    /**
+     * Fingerprints a file and records it as seen.
+     *
+     * @return True if an identical or near-identical file was seen before.
+     */
+    public boolean isDuplicate(CharSequence javaCode) {
+        return isDuplicate(javaCode, NO_TURN);
+    }
+
+    /**
+     * Fingerprints a file and, once every earlier turn has passed, looks it up and records it as seen.
+     *
+     * @param turn Turn given by {@link #execute(Executor, LongConsumer)}, or {@link #NO_TURN}.
+     * @return True if an identical or near-identical file was seen before.
+     */
+    public boolean isDuplicate(CharSequence javaCode, long turn) {
+        if (mode == Mode.OFF) {
+            return false;
+        }
+        Fingerprint fingerprint = fingerprint(javaCode);
+        if (turn == NO_TURN) {
+            return check(fingerprint, true);
+        }
+        awaitTurn(turn);
+        try {
+            return check(fingerprint, true);
+        } finally {
+            pass(turn);
+        }
+    }
+
+    /**
+     * Runs a task checking one file on the workers with the next turn. Turns are handed out in the order tasks are
+     * submitted, so with a FIFO executor every earlier turn is running or done by the time a task waits for its own.
+     * The task has to {@link #pass(long)} its turn in all cases, {@link #isDuplicate(CharSequence, long)} does.
+     */
+    public void execute(Executor workers, LongConsumer task) {
+        synchronized (submitLock) {
+            long turn = nextTurn++;
+            try {
+                workers.execute(() -> task.accept(turn));
+            } catch (RejectedExecutionException e) {
+                pass(turn);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Gives up a turn without a lookup, for files dropped before deduplication. Does nothing if the turn was
+     * already passed, so it can be called again in a finally block.
+     */
+    public void pass(long turn) {
+        if (mode == Mode.OFF || turn == NO_TURN) {
+            return;
+        }
+        Thread next;
+        synchronized (passLock) {
+            long current = currentTurn;
+            if (turn > current) {
+                passedEarly.add(turn);
+                return;
+            }
+            if (turn < current) {
+                return;
+            }
+            current++;
+            while (passedEarly.remove(current)) {
+                current++;
+            }
+            currentTurn = current;
+            next = waiting.get(current);
+        }
+        if (next != null) {
+            LockSupport.unpark(next);
+        }
+    }
+
+    private void awaitTurn(long turn) {
+        if (currentTurn == turn) {
+            return;
+        }
+        // Registered before checking, so a pass reaching this turn after the check always sees the thread
+        waiting.put(turn, Thread.currentThread());
+        try {
+            while (currentTurn < turn) {
+                LockSupport.park(this);
+            }
+        } finally {
+            waiting.remove(turn);
+        }
+    }
+
+    /**
+     * Records a file kept by an earlier run, so its duplicates in this run are dropped.
+     */
+    public void record(CharSequence javaCode) {
+        if (mode != Mode.OFF) {
+            check(fingerprint(javaCode), false);
+        }
+    }
+
+    public boolean isEnabled() {
+        return mode != Mode.OFF;
+    }
+
+    private Fingerprint fingerprint(CharSequence javaCode) {
+        Fingerprint fingerprint = new Fingerprint(mode == Mode.NEAR);
+        fingerprint.scan(javaCode);
+        return fingerprint;
+    }
+
+    private boolean check(Fingerprint fingerprint, boolean count) {
+        if (!exactHashes.add(fingerprint.exactHash)) {
+            if (count) {
+                exactDuplicates.increment();
+            }
+            return true;
+        }
+        if (mode == Mode.NEAR && fingerprint.shingles >= MIN_NEAR_SHINGLES) {
+            boolean seen = false;
+            for (int band = 0; band < BANDS; band++) {
+                long bandHash = band + 1;
+                for (int row = 0; row < ROWS; row++) {
+                    bandHash = mix(bandHash * 31 + fingerprint.minHashes[band * ROWS + row]);
+                }
+                // Every band is added, so later copies match this file on any of them
+                seen |= !bandHashes.add(bandHash);
+            }
+            if (seen) {
+                if (count) {
+                    nearDuplicates.increment();
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public long getExactDuplicates() {
+        return exactDuplicates.sum();
+    }
+
+    public long getNearDuplicates() {
+        return nearDuplicates.sum();
+    }
+
+    // Hashes of one file, built from its lexer tokens
+    private static final class Fingerprint {
+        private final boolean minHash;
+        private final long[] minHashes;
+        private final long[] window = new long[SHINGLE_TOKENS];
+        private long exactHash = 1;
+        private int tokens;
+        private int shingles;
+
+        Fingerprint(boolean minHash) {
+            this.minHash = minHash;
+            this.minHashes = minHash ? new long[MIN_HASHES] : null;
+            if (minHash) {
+                Arrays.fill(minHashes, Long.MAX_VALUE);
+            }
+        }
+
+        void scan(CharSequence javaCode) {
+            try (LexerPool.Lease lease = LexerPool.scanner(javaCode, false)) {
+                scan(lease.lexer(), javaCode);
+            }
+        }
+
+        private void scan(JavaLexer lexer, CharSequence javaCode) {
+            // Annotations are skipped: "@" Name ("." Name)* ["(" ... ")"]
+            boolean annotationName = false;
+            boolean annotationDot = false;
+            int annotationParens = 0;
+
+            Token token;
+            while ((token = lexer.nextToken()).getType() != Token.EOF) {
+                if (token.getChannel() != Token.DEFAULT_CHANNEL) {
+                    continue;
+                }
+                int type = token.getType();
+
+                if (annotationParens > 0) {
+                    if (type == JavaLexer.LPAREN) {
+                        annotationParens++;
+                    } else if (type == JavaLexer.RPAREN) {
+                        annotationParens--;
+                    }
+                    continue;
+                }
+                if (annotationName) {
+                    annotationName = false;
+                    if (type == JavaLexer.IDENTIFIER) {
+                        annotationDot = true;
+                        continue;
+                    }
+                } else if (annotationDot) {
+                    if (type == JavaLexer.DOT) {
+                        annotationName = true;
+                        annotationDot = false;
+                        continue;
+                    }
+                    annotationDot = false;
+                    if (type == JavaLexer.LPAREN) {
+                        annotationParens = 1;
+                        continue;
+                    }
+                }
+                if (type == JavaLexer.AT) {
+                    annotationName = true;
+                    continue;
+                }
+
+                add(tokenHash(type, javaCode, token.getStartIndex(), token.getStopIndex() + 1));
+            }
+        }
+
+        private void add(long tokenHash) {
+            exactHash = mix(exactHash * 31 + tokenHash);
+            if (!minHash) {
+                return;
+            }
+
+            window[tokens % SHINGLE_TOKENS] = tokenHash;
+            tokens++;
+            if (tokens < SHINGLE_TOKENS) {
+                return;
+            }
+
+            long shingle = 0;
+            for (int i = tokens - SHINGLE_TOKENS; i < tokens; i++) {
+                shingle = shingle * 31 + window[i % SHINGLE_TOKENS];
+            }
+            shingle = mix(shingle);
+            for (int i = 0; i < MIN_HASHES; i++) {
+                long value = (shingle * PERMUTATION_MULTIPLIERS[i] + PERMUTATION_OFFSETS[i]) >>> 1;
+                if (value < minHashes[i]) {
+                    minHashes[i] = value;
+                }
+            }
+            shingles++;
+        }
+
+        // Names and literals are hashed by text, everything else by token type
+        private static long tokenHash(int type, CharSequence source, int start, int end) {
+            long hash = type;
+            if (type == JavaLexer.IDENTIFIER || type >= JavaLexer.DECIMAL_LITERAL && type <= JavaLexer.TEXT_BLOCK) {
+                for (int i = start; i < end; i++) {
+                    hash = hash * 31 + source.charAt(i);
+                }
+            }
+            return mix(hash);
+        }
+    }
+
+    // Murmur3 finalizer
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB93FE53E1A85L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * Fixed-capacity set of longs in a direct buffer, open addressing with linear probing.
+     * Adds are lock-free CAS on the slots. Once three quarters full, adds keep returning true without probing, so
+     * nothing more is dropped and probe sequences stay short.
+     */
+    private static final class OffHeapLongSet {
+        private static final VarHandle SLOTS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+        private static final long EMPTY = 0;
+        // Byte offsets have to fit in an int and a buffer holds at most 2^31 - 1 bytes: 2^27 slots are 1 GiB
+        private static final int MAX_CAPACITY = 1 << 27;
+
+        private final ByteBuffer slots;
+        private final int mask;
+        private final int maxEntries;
+        private final AtomicInteger entries = new AtomicInteger();
+        private volatile boolean full;
+
+        OffHeapLongSet(long expectedEntries) {
+            long capacity = Long.highestOneBit(Math.max(expectedEntries, 1) * 2 - 1) * 2; // At most half full
+            int slotCount = (int) Math.min(capacity, MAX_CAPACITY);
+            if (capacity > slotCount) {
+                System.err.println("Deduplication set capped at " + slotCount + " slots for " + expectedEntries
+                        + " expected entries, later duplicates are kept once it is full");
+            }
+            this.slots = ByteBuffer.allocateDirect(slotCount * Long.BYTES).order(ByteOrder.nativeOrder());
+            this.mask = slotCount - 1;
+            this.maxEntries = slotCount / 4 * 3;
+        }
+
+        /**
+         * @return True if the key was not in the set yet.
+         */
+        boolean add(long key) {
+            if (full) {
+                return true;
+            }
+            if (key == EMPTY) {
+                key = 1;
+            }
+            int slot = (int) mix(key) & mask;
+            for (int probes = 0; probes <= mask; probes++) {
+                int offset = slot * Long.BYTES;
+                long current = (long) SLOTS.getVolatile(slots, offset);
+                if (current == EMPTY) {
+                    if (SLOTS.compareAndSet(slots, offset, EMPTY, key)) {
+                        if (entries.incrementAndGet() >= maxEntries) {
+                            markFull();
+                        }
+                        return true;
+                    }
+                    current = (long) SLOTS.getVolatile(slots, offset);
+                }
+                if (current == key) {
+                    return false;
+                }
+                slot = (slot + 1) & mask;
+            }
+            markFull();
+            return true;
+        }
+
+        private void markFull() {
+            if (!full) {
+                full = true;
+                System.err.println("Deduplication set is full, raise codelm.dedupExpectedFiles");
+            }
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.codelm;
+
+import com.codelm.antlr.JavaLexer;
+import org.antlr.v4.runtime.Token;
+
+import java.util.Arrays;
+
+/**
+ * Edit-aware encoder for a single open document, e.g. a file in an IDE completion session.
+ * Caches the lexed tokens together with their PUA encoding and, on every edit, re-lexes only
+ * the damaged region before splicing the new tokens into the cached output.
+ * Produces exactly the same output as {@link ModelTokenCodec#encodeFileToUnicodeString(String)}.
+ * <p>
+ * Not thread-safe, use one session per document.
+ */
+public class EncodingSession {
+    private final ModelTokenCodec codec;
+    private final StringBuilder document;
+    private final StringBuilder encoded = new StringBuilder();
+    private final TokenIdBuffer tokenIds = new TokenIdBuffer(64);
+
+    // One record per nextToken() call, the last one is the EOF token.
+    // JavaLexer has no modes, so lexing from a record's lexStart depends only on the text from there on.
+    private int count;
+    private int[] lexStart = new int[256]; // Where the lexer started, including chars skipped on errors
+    private int[] maxRead = new int[256]; // Furthest char index the lexer looked at to produce the token
+    private int[] encodedStart = new int[256]; // Offset of the token's fragment in the encoded output
+
+    public EncodingSession(ModelTokenCodec codec, String text) {
+        this.codec = codec;
+        this.document = new StringBuilder(text);
+        relex(0, 0, 0, 0);
+    }
+
+    /**
+     * Replaces a range of the document and updates the encoding. Only tokens whose lexing looked at the
+     * changed range are re-lexed, lexing stops as soon as it is back in step with the cached tokens.
+     *
+     * @param offset        Start of the replaced range.
+     * @param removedLength Number of chars removed at {@code offset}.
+     * @param insertedText  Text inserted at {@code offset}.
+     */
+    public void applyEdit(int offset, int removedLength, String insertedText) {
+        if (offset < 0 || removedLength < 0 || offset + removedLength > document.length()) {
+            throw new IndexOutOfBoundsException("Edit [" + offset + ", " + (offset + removedLength)
+                    + ") out of bounds for document length " + document.length());
+        }
+
+        // First token that could change: anything whose lookahead reached the edit. Lookahead is not
+        // monotonic (an unterminated comment reads to EOF), hence a scan rather than a binary search.
+        int first = 0;
+        while (maxRead[first] < offset) {
+            first++;
+        }
+
+        document.replace(offset, offset + removedLength, insertedText);
+        relex(first, offset + insertedText.length(), offset + removedLength, insertedText.length() - removedLength);
+    }
+
+    /**
+     * @return The PUA encoding of the current document.
+     */
+    public String getEncoded() {
+        return encoded.toString();
+    }
+
+    /**
+     * @return The current document text.
+     */
+    public String getText() {
+        return document.toString();
+    }
+
+    /**
+     * Re-lexes from record {@code first} until a token starts at the same place as an untouched old one.
+     *
+     * @param first      Index of the first record to re-lex.
+     * @param newEditEnd End of the inserted text in the new document.
+     * @param oldEditEnd End of the removed range in the old document.
+     * @param delta      Change in document length.
+     */
+    private void relex(int first, int newEditEnd, int oldEditEnd, int delta) {
+        int startPos = first < count ? lexStart[first] : 0;
+        int encodedFrom = first < count ? encodedStart[first] : 0;
+
+        TrackingCharStream input = new TrackingCharStream(document);
+        JavaLexer lexer = new JavaLexer(input);
+        lexer.removeErrorListeners(); // Half-typed code is the norm here, don't spam stderr
+        input.seek(startPos);
+
+        int newCount = 0;
+        int[] newLexStart = new int[16];
+        int[] newMaxRead = new int[16];
+        int[] newEncodedStart = new int[16];
+        StringBuilder fragment = new StringBuilder();
+
+        int resume = count; // Old record the cached tail resumes from, count if nothing is reused
+        int old = first;
+        while (true) {
+            int position = input.index();
+
+            // Back in step: same start position past the edit means the same tokens from here on
+            if (position >= newEditEnd) {
+                while (old < count && lexStart[old] + delta < position) {
+                    old++;
+                }
+                if (old < count && lexStart[old] + delta == position && lexStart[old] >= oldEditEnd) {
+                    resume = old;
+                    break;
+                }
+            }
+
+            input.maxIndexRead = position;
+            Token token = lexer.nextToken();
+
+            if (newCount == newLexStart.length) {
+                newLexStart = Arrays.copyOf(newLexStart, newCount * 2);
+                newMaxRead = Arrays.copyOf(newMaxRead, newCount * 2);
+                newEncodedStart = Arrays.copyOf(newEncodedStart, newCount * 2);
+            }
+            newLexStart[newCount] = position;
+            newMaxRead[newCount] = input.maxIndexRead;
+            newEncodedStart[newCount] = encodedFrom + fragment.length();
+            newCount++;
+
+            if (token.getType() == Token.EOF) {
+                break;
+            }
+            tokenIds.clear();
+            codec.encodeToken(token.getType(), document, token.getStartIndex(), token.getStopIndex() + 1, tokenIds);
+            codec.appendIdsAsPua(tokenIds, fragment);
+        }
+
+        int encodedTo = resume < count ? encodedStart[resume] : encoded.length();
+        encoded.replace(encodedFrom, encodedTo, fragment.toString());
+        int encodedDelta = fragment.length() - (encodedTo - encodedFrom);
+
+        // Splice: [0, first) untouched, new records, then the reused tail shifted into new coordinates
+        int tail = count - resume;
+        int total = first + newCount + tail;
+        ensureCapacity(total);
+        System.arraycopy(lexStart, resume, lexStart, first + newCount, tail);
+        System.arraycopy(maxRead, resume, maxRead, first + newCount, tail);
+        System.arraycopy(encodedStart, resume, encodedStart, first + newCount, tail);
+        System.arraycopy(newLexStart, 0, lexStart, first, newCount);
+        System.arraycopy(newMaxRead, 0, maxRead, first, newCount);
+        System.arraycopy(newEncodedStart, 0, encodedStart, first, newCount);
+        for (int i = first + newCount; i < total; i++) {
+            lexStart[i] += delta;
+            maxRead[i] += delta;
+            encodedStart[i] += encodedDelta;
+        }
+        count = total;
+    }
+
+    private void ensureCapacity(int size) {
+        if (size > lexStart.length) {
+            int capacity = Math.max(size, lexStart.length * 2);
+            lexStart = Arrays.copyOf(lexStart, capacity);
+            maxRead = Arrays.copyOf(maxRead, capacity);
+            encodedStart = Arrays.copyOf(encodedStart, capacity);
+        }
+    }
+
+    /**
+     * Records the furthest index the lexer looks at, EOF included, to know which tokens an edit can affect.
+     */
+    private static class TrackingCharStream extends CharSequenceCharStream {
+        int maxIndexRead;
+
+        TrackingCharStream(CharSequence data) {
+            super(data);
+        }
+
+        @Override
+        public int LA(int i) {
+            if (i > 0) {
+                int index = Math.min(position + i - 1, data.length());
+                if (index > maxIndexRead) {
+                    maxIndexRead = index;
+                }
+            }
+            return super.LA(i);
+        }
+    }
+}
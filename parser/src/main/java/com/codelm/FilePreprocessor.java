@@ -0,0 +1,188 @@
+package com.codelm;
+
+import com.codelm.PipelineMetrics.Stage;
+import com.github.javaparser.StaticJavaParser;
+import com.github.javaparser.ast.CompilationUnit;
+
+/**
+ * Per-file preprocessing stage of the pipeline: garbage filtering, comment/annotation stripping,
+ * pretty-printing and token statistics on shared ASTs.
+ * <p>
+ * Calling {@link GarbageFileFilter#isGarbage(String, String)}, {@link Parser#cleanJavaCode(String)},
+ * {@link Parser#formatJavaCode(String)} and {@link TokenAnalyzer#analyze(String)} one after another parses
+ * every file seven times. Here obvious garbage is rejected by a lexer scan before any parsing, the cleaned AST is
+ * reused for the remaining garbage check, and the re-parse of the printed code doubles as the token statistics
+ * parse, so a typical file is parsed three times. Duplicates are dropped by the optional {@link Deduplicator}
+ * right after the lexer scan, before any parsing.
+ * <p>
+ * With the {@link Cleaner#ANTLR} cleaner, files are not parsed at all: {@link TokenStreamCleaner} strips and
+ * prints them in one lexer pass, files the prefilter is unsure about are judged on the cleaned tokens and the
+ * statistics come from {@link TokenAnalyzer#analyzeTokens(CharSequence, FrequencyIndex, FrequencyIndex)}. Strict
+ * validation adds one JavaParser parse of the cleaned code to drop files that do not compile.
+ * <p>
+ * Every stage is timed into {@link PipelineMetrics}.
+ */
+public class FilePreprocessor {
+    /**
+     * How files are cleaned and formatted.
+     */
+    public enum Cleaner {
+        JAVAPARSER, // JavaParser ASTs, pretty-printed
+        ANTLR // JavaLexer tokens, see TokenStreamCleaner
+    }
+
+    private final Parser parser = new Parser();
+    private final FrequencyIndex identifierCounts;
+    private final FrequencyIndex literalCounts;
+    private final Deduplicator deduplicator;
+    private final Cleaner cleaner;
+    private final boolean strictValidation;
+
+    public FilePreprocessor() {
+        this(null, null, null);
+    }
+
+    /**
+     * Preprocessor with the {@link PipelineConfig#CLEANER} and {@link PipelineConfig#STRICT_VALIDATION} settings.
+     *
+     * @param identifierCounts Index counting the identifiers of every kept file, or null.
+     * @param literalCounts    Index counting the string literals of every kept file, or null.
+     * @param deduplicator     Deduplicator shared by every file of the corpus, or null to keep duplicates.
+     */
+    public FilePreprocessor(FrequencyIndex identifierCounts, FrequencyIndex literalCounts, Deduplicator deduplicator) {
+        this(identifierCounts, literalCounts, deduplicator, PipelineConfig.CLEANER, PipelineConfig.STRICT_VALIDATION);
+    }
+
+    /**
+     * @param strictValidation True to drop files the {@link Cleaner#ANTLR} cleaner keeps but JavaParser cannot
+     *                         parse. The JavaParser cleaner always parses.
+     */
+    public FilePreprocessor(FrequencyIndex identifierCounts, FrequencyIndex literalCounts, Deduplicator deduplicator,
+                            Cleaner cleaner, boolean strictValidation) {
+        this.identifierCounts = identifierCounts;
+        this.literalCounts = literalCounts;
+        this.deduplicator = deduplicator;
+        this.cleaner = cleaner;
+        this.strictValidation = strictValidation;
+    }
+
+    /**
+     * @param fileName Name of the zip entry, used for the hashed-name check.
+     * @param content  Raw file content.
+     * @return The cleaned and formatted file with its token stats, or null if the file is garbage, a duplicate
+     * or does not parse.
+     */
+    public Result process(String fileName, String content) {
+        return process(fileName, content, Deduplicator.NO_TURN);
+    }
+
+    /**
+     * Like {@link #process(String, String)}, with the deduplication turn of the file. Files dropped before the
+     * deduplicator give up their turn.
+     */
+    public Result process(String fileName, String content, long turn) {
+        PipelineMetrics.FileTimer timer = new PipelineMetrics.FileTimer("preprocess", fileName, content.length());
+        GarbageFileFilter.Verdict verdict = GarbageFileFilter.isGarbageFileName(fileName)
+                ? GarbageFileFilter.Verdict.GARBAGE : GarbageFileFilter.prefilter(content);
+        if (verdict == GarbageFileFilter.Verdict.GARBAGE) {
+            if (deduplicator != null) {
+                deduplicator.pass(turn);
+            }
+            timer.lap(Stage.GARBAGE_FILTER);
+            timer.finish("garbage", false);
+            return null;
+        }
+        timer.lap(Stage.GARBAGE_FILTER);
+        if (deduplicator != null && deduplicator.isDuplicate(content, turn)) {
+            timer.lap(Stage.DEDUPLICATE);
+            timer.finish("duplicate", false);
+            return null;
+        }
+        if (deduplicator != null) {
+            timer.lap(Stage.DEDUPLICATE);
+        }
+
+        if (cleaner == Cleaner.ANTLR) {
+            return processTokens(fileName, content, verdict, timer);
+        }
+        try {
+            CompilationUnit cleaned = parser.parseCleaned(content);
+            timer.lap(Stage.CLEAN);
+            boolean garbage = GarbageFileFilter.isGarbage(cleaned);
+            timer.lap(Stage.GARBAGE_FILTER);
+            if (garbage) {
+                timer.finish("garbage", false);
+                return null;
+            }
+
+            // Token ranges still describe the pre-cleaning source, so the printed code has to be parsed again.
+            // Printing is normally idempotent, in which case that parse already has the final tokens.
+            String cleanedCode = cleaned.toString();
+            CompilationUnit cu = StaticJavaParser.parse(cleanedCode);
+            String formattedCode = parser.formatJavaCode(cu);
+            if (!formattedCode.equals(cleanedCode)) {
+                cu = StaticJavaParser.parse(formattedCode);
+            }
+            timer.lap(Stage.FORMAT);
+
+            Result result = new Result(fileName, formattedCode, TokenAnalyzer.analyze(cu, identifierCounts, literalCounts));
+            timer.lap(Stage.ANALYZE);
+            timer.finish("kept", true);
+            return result;
+        } catch (Exception e) {
+            // Filtering out files containing source code that does not compile
+            timer.finish("unparsable", false);
+            return null;
+        }
+    }
+
+    private Result processTokens(String fileName, String content, GarbageFileFilter.Verdict verdict,
+                                 PipelineMetrics.FileTimer timer) {
+        TokenStreamCleaner.Cleaned cleaned = TokenStreamCleaner.clean(content);
+        timer.lap(Stage.CLEAN);
+        if (cleaned == null) {
+            timer.finish("unparsable", false);
+            return null;
+        }
+        // The prefilter already found a type declaration in kept files, unsure ones are settled on the tokens
+        if (verdict != GarbageFileFilter.Verdict.KEEP && !cleaned.declaresType()) {
+            timer.lap(Stage.GARBAGE_FILTER);
+            timer.finish("garbage", false);
+            return null;
+        }
+
+        if (strictValidation) {
+            try {
+                StaticJavaParser.parse(cleaned.code());
+            } catch (Exception e) {
+                timer.lap(Stage.VALIDATE);
+                timer.finish("unparsable", false);
+                return null;
+            }
+            timer.lap(Stage.VALIDATE);
+        }
+
+        Result result = new Result(fileName, cleaned.code(),
+                TokenAnalyzer.analyzeTokens(cleaned.code(), identifierCounts, literalCounts));
+        timer.lap(Stage.ANALYZE);
+        timer.finish("kept", true);
+        return result;
+    }
+
+    // Result of processing one file, handed from the worker threads to the writer
+    public static class Result {
+        String fileName;
+        String formattedCode;
+        TokenAnalyzer.TokenStats stats;
+
+        public Result(String fileName, String formattedCode, TokenAnalyzer.TokenStats stats) {
+            this.fileName = fileName;
+            this.formattedCode = formattedCode;
+            this.stats = stats;
+        }
+
+        public String getFormattedCode() {
+            return formattedCode;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.codelm;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Occurrence counts of distinct strings (identifiers, literals), updated concurrently by the workers.
+ * Each distinct string is stored once, so memory grows with the vocabulary instead of the corpus.
+ * <p>
+ * {@link #writeSorted(Path)} writes the {@code name: count} file, most frequent first, that used to be produced
+ * from the raw occurrence logs by {@code log_analyzer.sh}, and {@link #readSorted(Path)} reads it back.
+ */
+public class FrequencyIndex {
+    private final ConcurrentHashMap<String, LongAdder> counts = new ConcurrentHashMap<>();
+
+    public void add(String value) {
+        LongAdder count = counts.get(value);
+        if (count == null) {
+            count = counts.computeIfAbsent(value, k -> new LongAdder());
+        }
+        count.increment();
+    }
+
+    public void add(String value, long occurrences) {
+        counts.computeIfAbsent(value, k -> new LongAdder()).add(occurrences);
+    }
+
+    /**
+     * Adds the counts of another index.
+     */
+    public void addAll(FrequencyIndex other) {
+        other.counts.forEach((value, count) -> add(value, count.sum()));
+    }
+
+    public long getCount(String value) {
+        LongAdder count = counts.get(value);
+        return count == null ? 0 : count.sum();
+    }
+
+    /**
+     * @return Number of distinct strings.
+     */
+    public int size() {
+        return counts.size();
+    }
+
+    /**
+     * Writes one {@code name: count} line per distinct string, by descending count and then by name.
+     * Should be called once the updating threads are done.
+     */
+    public void writeSorted(Path path) throws IOException {
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(counts.size());
+        counts.forEach((value, count) -> entries.add(Map.entry(value, count.sum())));
+        entries.sort(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, Long> entry : entries) {
+                writer.write(entry.getKey());
+                writer.write(": ");
+                writer.write(Long.toString(entry.getValue()));
+                writer.write('\n');
+            }
+        }
+    }
+
+    /**
+     * Reads a file written by {@link #writeSorted(Path)}.
+     */
+    public static FrequencyIndex readSorted(Path path) throws IOException {
+        FrequencyIndex index = new FrequencyIndex();
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int separator = line.lastIndexOf(": ");
+                if (separator < 0) {
+                    throw new IOException("Invalid line in " + path + ": " + line);
+                }
+                try {
+                    index.add(line.substring(0, separator), Long.parseLong(line.substring(separator + 2)));
+                } catch (NumberFormatException e) {
+                    throw new IOException("Invalid line in " + path + ": " + line);
+                }
+            }
+        }
+        return index;
+    }
+}
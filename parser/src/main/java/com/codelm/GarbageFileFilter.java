@@ -1,13 +1,17 @@
 package com.codelm;
 
+import com.codelm.antlr.JavaLexer;
 import com.github.javaparser.StaticJavaParser;
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
 import com.github.javaparser.ast.body.EnumDeclaration;
 import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.body.RecordDeclaration;
 import com.github.javaparser.ast.stmt.Statement;
 
+import org.antlr.v4.runtime.Token;
+
 import java.util.List;
 import java.util.regex.Pattern;
 
@@ -15,14 +19,164 @@ public class GarbageFileFilter {
     // This pattern is for filenames to identify hash-like names, which is usually the garbage file
     private static final Pattern HASH_PATTERN = Pattern.compile("^[0-9a-fA-F]{32}_\\d+\\.java$");
 
-    public static boolean isGarbage(String fileName, String javaCode) {
+    // Larger files are nearly always generated code or data dumps
+    private static final int MAX_FILE_CHARS = Integer.getInteger("codelm.maxFileChars", 1 << 20);
+    // Chars checked for binary content, and how many of them may be control or replacement chars
+    private static final int BINARY_SAMPLE_CHARS = 8192;
+    private static final int BINARY_MAX_CONTROL_RATIO = 10; // 1 in 10
+
+    /**
+     * Outcome of the lexer-only {@link #prefilter(CharSequence)}.
+     */
+    public enum Verdict {
+        GARBAGE, // Empty, binary, oversized or no type declaration at all
+        KEEP, // Declares a top-level class, interface, enum or record
+        UNSURE // Type keywords in unusual places, e.g. after an annotation or nested in an @interface, needs a full parse
+    }
+
+    public static boolean isGarbage(String fileName, CharSequence javaCode) {
         // 1. Check for hashed filename anomalies
-        if (HASH_PATTERN.matcher(fileName).matches()) {
+        if (isGarbageFileName(fileName)) {
             return true;
         }
 
-        // 2. If content is garbage, filter it out
-        return isContentGarbage(javaCode);
+        // 2. Cheap token scan, only ambiguous files are parsed
+        return switch (prefilter(javaCode)) {
+            case GARBAGE -> true;
+            case KEEP -> false;
+            case UNSURE -> isContentGarbage(javaCode.toString());
+        };
+    }
+
+    /**
+     * Classifies a file without building an AST: rejects empty, binary and oversized content, then runs the
+     * ANTLR lexer until it finds a type declaration at brace depth 0: a modifier or the end of the previous
+     * declaration, {@code class}/{@code interface}/{@code enum}/{@code record}, a name and what can follow it.
+     * {@code Foo.class} and {@code @interface} do not count. A file without one is only garbage if it declares no
+     * nested type either, types nested in an {@code @interface} are left to the full parse like
+     * {@link #isGarbage(CompilationUnit)} counts them.
+     */
+    public static Verdict prefilter(CharSequence javaCode) {
+        if (javaCode.length() > MAX_FILE_CHARS || isBinary(javaCode)) {
+            return Verdict.GARBAGE;
+        }
+
+        // Junk is expected here, unrecognized chars are just skipped
+        try (LexerPool.Lease lease = LexerPool.scanner(javaCode, false)) {
+            return prefilter(lease.lexer());
+        }
+    }
+
+    private static Verdict prefilter(JavaLexer lexer) {
+        int depth = 0;
+        boolean nestedType = false;
+        // record is also a valid name, it only declares something when followed by one
+        boolean pendingRecord = false;
+        boolean unusualType = false;
+        // Tokens matched of "keyword Name {", "keyword Name<", "keyword Name extends"... at depth 0, 0 if none
+        int declarationTokens = 0;
+        int previousType = Token.INVALID_TYPE;
+        Token token;
+        while ((token = lexer.nextToken()).getType() != Token.EOF) {
+            if (token.getChannel() != Token.DEFAULT_CHANNEL) {
+                continue;
+            }
+
+            int type = token.getType();
+            if (pendingRecord) {
+                pendingRecord = false;
+                if (type == JavaLexer.IDENTIFIER) {
+                    if (depth > 0) {
+                        nestedType = true;
+                    } else {
+                        unusualType = true;
+                    }
+                }
+            }
+            if (declarationTokens == 1) {
+                declarationTokens = type == JavaLexer.IDENTIFIER ? 2 : 0;
+                unusualType |= declarationTokens == 0;
+            } else if (declarationTokens == 2) {
+                if (followsDeclarationName(type)) {
+                    return Verdict.KEEP;
+                }
+                declarationTokens = 0;
+                unusualType = true;
+            }
+
+            switch (type) {
+                case JavaLexer.LBRACE -> depth++;
+                case JavaLexer.RBRACE -> depth = Math.max(depth - 1, 0); // The file may start inside a body
+                case JavaLexer.CLASS, JavaLexer.INTERFACE, JavaLexer.ENUM, JavaLexer.RECORD -> {
+                    if (previousType == JavaLexer.DOT || previousType == JavaLexer.AT) {
+                        break; // Foo.class, @interface
+                    }
+                    if (depth == 0 && startsDeclaration(previousType)) {
+                        declarationTokens = 1;
+                    } else if (type == JavaLexer.RECORD) {
+                        pendingRecord = true;
+                    } else if (depth > 0) {
+                        nestedType = true;
+                    } else {
+                        unusualType = true; // After an annotation, or in stray text
+                    }
+                }
+                default -> {
+                }
+            }
+            previousType = type;
+        }
+
+        return unusualType || nestedType ? Verdict.UNSURE : Verdict.GARBAGE;
+    }
+
+    // Tokens that can follow the name of a type declaration
+    private static boolean followsDeclarationName(int type) {
+        return switch (type) {
+            case JavaLexer.LBRACE, JavaLexer.LT, JavaLexer.LPAREN, JavaLexer.EXTENDS, JavaLexer.IMPLEMENTS,
+                 JavaLexer.PERMITS -> true;
+            default -> false;
+        };
+    }
+
+    // Tokens a top-level type declaration keyword can follow
+    private static boolean startsDeclaration(int previousType) {
+        return switch (previousType) {
+            case Token.INVALID_TYPE, JavaLexer.SEMI, JavaLexer.RBRACE, JavaLexer.PUBLIC, JavaLexer.PROTECTED,
+                 JavaLexer.PRIVATE, JavaLexer.STATIC, JavaLexer.ABSTRACT, JavaLexer.FINAL, JavaLexer.STRICTFP,
+                 JavaLexer.SEALED, JavaLexer.NON_SEALED -> true;
+            default -> false;
+        };
+    }
+
+    // NUL, or more control/replacement chars in the sample than a text file would have
+    private static boolean isBinary(CharSequence javaCode) {
+        int sample = Math.min(javaCode.length(), BINARY_SAMPLE_CHARS);
+        int control = 0;
+        for (int i = 0; i < sample; i++) {
+            char c = javaCode.charAt(i);
+            if (c == 0) {
+                return true;
+            }
+            if ((c < ' ' && c != '\n' && c != '\r' && c != '\t' && c != '\f') || c == '\uFFFD') {
+                control++;
+            }
+        }
+        return control * BINARY_MAX_CONTROL_RATIO > sample;
+    }
+
+    public static boolean isGarbageFileName(String fileName) {
+        return HASH_PATTERN.matcher(fileName).matches();
+    }
+
+    /**
+     * Content check on an already parsed and cleaned file, see {@link Parser#parseCleaned(String)}.
+     */
+    public static boolean isGarbage(CompilationUnit cu) {
+        List<ClassOrInterfaceDeclaration> classes = cu.findAll(ClassOrInterfaceDeclaration.class);
+        List<EnumDeclaration> enums = cu.findAll(EnumDeclaration.class);
+        List<RecordDeclaration> records = cu.findAll(RecordDeclaration.class);
+        return classes.isEmpty() && enums.isEmpty() && records.isEmpty(); // Remove files with empty classes
     }
 
     private static boolean isContentGarbage(String javaCode) {
@@ -30,10 +184,7 @@ public class GarbageFileFilter {
             Parser parser = new Parser();
             String cleanCode = parser.cleanJavaCode(javaCode);
             String formattedCode = parser.formatJavaCode(cleanCode);
-            CompilationUnit cu = StaticJavaParser.parse(formattedCode);
-            List<ClassOrInterfaceDeclaration> classes = cu.findAll(ClassOrInterfaceDeclaration.class);
-            List<EnumDeclaration> enums = cu.findAll(EnumDeclaration.class);
-            return classes.isEmpty() && enums.isEmpty(); // Remove files with empty classes
+            return isGarbage(StaticJavaParser.parse(formattedCode));
         } catch (Exception e) {
             return false; // Includes normal files with repo tags at beginning, missing imports etc...
         }
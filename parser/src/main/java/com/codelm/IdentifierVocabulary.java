@@ -0,0 +1,238 @@
+package com.codelm;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The frequent identifiers that {@link ModelTokenCodec} encodes as single tokens instead of spelling them out.
+ * <p>
+ * All identifiers live in one {@code char[]} pool behind an open-addressing hash table, and lookups hash and compare
+ * a range of any {@link CharSequence} in place, so encoding does not allocate a {@code String} per identifier token.
+ * <p>
+ * Sources, detected by content:
+ * <ul>
+ *     <li>a frequency file, one identifier per line, optionally followed by {@code ": count"}, most frequent first
+ *     (the {@code identifiers_count.txt} written by {@link ParsingText})</li>
+ *     <li>a binary snapshot written by {@link #writeSnapshot(Path)}, which loads without parsing or hashing</li>
+ * </ul>
+ */
+public final class IdentifierVocabulary {
+    public static final IdentifierVocabulary EMPTY = new IdentifierVocabulary(List.of());
+
+    private static final int SNAPSHOT_MAGIC = 0x49445643; // "IDVC"
+    private static final int SNAPSHOT_VERSION = 1;
+
+    // Identifier i is pool[offsets[i], offsets[i + 1])
+    private final char[] pool;
+    private final int[] offsets;
+    private final int[] hashes;
+    // Slots hold identifier index + 1, 0 is empty
+    private final int[] table;
+    private final int mask;
+
+    private IdentifierVocabulary(char[] pool, int[] offsets, int[] hashes, int[] table) {
+        this.pool = pool;
+        this.offsets = offsets;
+        this.hashes = hashes;
+        this.table = table;
+        this.mask = table.length - 1;
+    }
+
+    /**
+     * @param identifiers Identifiers in ID order, must be distinct.
+     */
+    public IdentifierVocabulary(List<String> identifiers) {
+        int size = identifiers.size();
+        int poolLength = 0;
+        for (String identifier : identifiers) {
+            poolLength += identifier.length();
+        }
+
+        this.pool = new char[poolLength];
+        this.offsets = new int[size + 1];
+        this.hashes = new int[size];
+        this.table = new int[Integer.highestOneBit(Math.max(size, 1) * 2 + 1) * 2];
+        this.mask = table.length - 1;
+
+        int offset = 0;
+        for (int i = 0; i < size; i++) {
+            String identifier = identifiers.get(i);
+            identifier.getChars(0, identifier.length(), pool, offset);
+            offsets[i] = offset;
+            offset += identifier.length();
+            hashes[i] = hash(identifier, 0, identifier.length());
+
+            if (indexOf(identifier, 0, identifier.length()) >= 0) {
+                throw new IllegalArgumentException("Duplicate identifier: " + identifier);
+            }
+            int slot = hashes[i] & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = i + 1;
+        }
+        offsets[size] = offset;
+    }
+
+    /**
+     * Loads up to {@code maxCount} identifiers from a frequency file or a snapshot. A shorter file is not an error.
+     * Blank and duplicate entries are skipped, and so are single printable ASCII characters, which the codec
+     * already encodes as character tokens.
+     */
+    public static IdentifierVocabulary load(Path path, int maxCount) throws IOException {
+        try (InputStream in = Files.newInputStream(path)) {
+            byte[] magic = in.readNBytes(Integer.BYTES);
+            if (magic.length == Integer.BYTES && ByteBuffer.wrap(magic).getInt() == SNAPSHOT_MAGIC) {
+                return readSnapshot(path, maxCount);
+            }
+        }
+
+        Set<String> identifiers = new LinkedHashSet<>();
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while (identifiers.size() < maxCount && (line = reader.readLine()) != null) {
+                String identifier = stripCount(line).strip();
+                boolean asciiChar = identifier.length() == 1
+                        && identifier.charAt(0) >= ModelTokenCodec.CHAR_MIN_VALUE
+                        && identifier.charAt(0) <= ModelTokenCodec.CHAR_MAX_VALUE;
+                if (!identifier.isEmpty() && !asciiChar) {
+                    identifiers.add(identifier);
+                }
+            }
+        }
+        return new IdentifierVocabulary(new ArrayList<>(identifiers));
+    }
+
+    // "name: count" -> "name", plain lines are returned as they are
+    private static String stripCount(String line) {
+        int separator = line.lastIndexOf(": ");
+        if (separator < 0) {
+            return line;
+        }
+        for (int i = separator + 2; i < line.length(); i++) {
+            if (!Character.isDigit(line.charAt(i))) {
+                return line;
+            }
+        }
+        return line.substring(0, separator);
+    }
+
+    public int size() {
+        return hashes.length;
+    }
+
+    public String get(int index) {
+        return new String(pool, offsets[index], offsets[index + 1] - offsets[index]);
+    }
+
+    public List<String> toList() {
+        List<String> identifiers = new ArrayList<>(size());
+        for (int i = 0; i < size(); i++) {
+            identifiers.add(get(i));
+        }
+        return identifiers;
+    }
+
+    /**
+     * Looks up {@code text[start, end)} without copying it.
+     *
+     * @return Index of the identifier, or -1 if it is not in the vocabulary.
+     */
+    public int indexOf(CharSequence text, int start, int end) {
+        int length = end - start;
+        int hash = hash(text, start, end);
+        int slot = hash & mask;
+
+        int entry;
+        while ((entry = table[slot]) != 0) {
+            int index = entry - 1;
+            if (hashes[index] == hash && offsets[index + 1] - offsets[index] == length && matches(index, text, start)) {
+                return index;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private boolean matches(int index, CharSequence text, int start) {
+        for (int i = offsets[index], j = start; i < offsets[index + 1]; i++, j++) {
+            if (pool[i] != text.charAt(j)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hash(CharSequence text, int start, int end) {
+        int h = 0;
+        for (int i = start; i < end; i++) {
+            h = 31 * h + text.charAt(i);
+        }
+        // Spread the bits, the table index uses the low ones
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Writes the pool, hashes and table as they are, so {@link #load(Path, int)} can restore them with bulk reads.
+     */
+    public void writeSnapshot(Path path) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeInt(size());
+            out.writeInt(pool.length);
+            out.writeInt(table.length);
+            for (int offset : offsets) {
+                out.writeInt(offset);
+            }
+            for (int hash : hashes) {
+                out.writeInt(hash);
+            }
+            for (int slot : table) {
+                out.writeInt(slot);
+            }
+            for (char c : pool) {
+                out.writeChar(c);
+            }
+        }
+    }
+
+    private static IdentifierVocabulary readSnapshot(Path path, int maxCount) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+        buffer.getInt(); // Magic
+        int version = buffer.getInt();
+        if (version != SNAPSHOT_VERSION) {
+            throw new IOException("Unsupported identifier snapshot version " + version + " in " + path);
+        }
+        int size = buffer.getInt();
+        int poolLength = buffer.getInt();
+        int tableLength = buffer.getInt();
+
+        int[] offsets = new int[size + 1];
+        int[] hashes = new int[size];
+        int[] table = new int[tableLength];
+        char[] pool = new char[poolLength];
+        buffer.asIntBuffer().get(offsets).get(hashes).get(table);
+        buffer.position(buffer.position() + (offsets.length + hashes.length + table.length) * Integer.BYTES);
+        buffer.asCharBuffer().get(pool);
+
+        IdentifierVocabulary vocabulary = new IdentifierVocabulary(pool, offsets, hashes, table);
+        if (size > maxCount) {
+            // Only the most frequent ones were asked for, which needs a smaller table
+            return new IdentifierVocabulary(vocabulary.toList().subList(0, maxCount));
+        }
+        return vocabulary;
+    }
+}
@@ -0,0 +1,159 @@
+package com.codelm;
+
+import com.codelm.antlr.JavaLexer;
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.CommonTokenFactory;
+import org.antlr.v4.runtime.ConsoleErrorListener;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenFactory;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.misc.Pair;
+
+import java.io.Serial;
+import java.util.ArrayDeque;
+
+/**
+ * Per-thread pool of {@link JavaLexer}s, reset onto each new input instead of being built per file.
+ * <p>
+ * A leased lexer reads its input through a reused {@link CharSequenceCharStream}, so neither the lexer, its ATN
+ * simulator nor a copy of the text is allocated per file. Leases come in two flavors:
+ * <ul>
+ *     <li>{@link #scanner(CharSequence, boolean)} recycles one token object, for callers that are done with a token
+ *     before asking for the next one (encoder, garbage prefilter, deduplicator), so lexing allocates nothing per
+ *     token either</li>
+ *     <li>{@link #tokenizer(CharSequence, boolean)} creates regular {@link CommonToken}s, e.g. for a
+ *     {@link org.antlr.v4.runtime.CommonTokenStream}. Their text is read from the pooled stream, so they are only
+ *     valid until the lease is closed; {@link #tokenizer(CharStream, boolean)} takes a stream of the caller's own
+ *     for tokens that outlive it</li>
+ * </ul>
+ * Leases are {@link AutoCloseable} and go back to the pool of the thread that closes them. Nested leases on one
+ * thread get separate lexers.
+ */
+public final class LexerPool {
+    private static final ThreadLocal<ArrayDeque<Lease>> FREE_LEASES = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private LexerPool() {
+    }
+
+    /**
+     * Leases a lexer whose tokens are only valid until the next {@code nextToken()} call.
+     *
+     * @param reportErrors True to print unrecognized input to stderr like a new lexer does.
+     */
+    public static Lease scanner(CharSequence input, boolean reportErrors) {
+        Lease lease = take();
+        lease.input.reset(input);
+        return lease.start(lease.input, lease.recyclingFactory, reportErrors);
+    }
+
+    /**
+     * Leases a lexer creating a token object per token, valid until the lease is closed.
+     *
+     * @param reportErrors True to print unrecognized input to stderr like a new lexer does.
+     */
+    public static Lease tokenizer(CharSequence input, boolean reportErrors) {
+        Lease lease = take();
+        lease.input.reset(input);
+        return lease.start(lease.input, CommonTokenFactory.DEFAULT, reportErrors);
+    }
+
+    /**
+     * Leases a lexer reading the caller's stream, the tokens stay valid as long as the stream does.
+     *
+     * @param reportErrors True to print unrecognized input to stderr like a new lexer does.
+     */
+    public static Lease tokenizer(CharStream input, boolean reportErrors) {
+        return take().start(input, CommonTokenFactory.DEFAULT, reportErrors);
+    }
+
+    private static Lease take() {
+        Lease lease = FREE_LEASES.get().poll();
+        return lease != null ? lease : new Lease();
+    }
+
+    public static final class Lease implements AutoCloseable {
+        private final CharSequenceCharStream input = new CharSequenceCharStream("");
+        private final RecyclingTokenFactory recyclingFactory = new RecyclingTokenFactory();
+        private final JavaLexer lexer = new JavaLexer(input);
+        private boolean reportErrors;
+
+        private Lease() {
+            // One listener for the lexer's lifetime, toggled per lease
+            lexer.removeErrorListeners();
+            lexer.addErrorListener(new BaseErrorListener() {
+                @Override
+                public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line,
+                                        int charPositionInLine, String msg, RecognitionException e) {
+                    if (reportErrors) {
+                        ConsoleErrorListener.INSTANCE.syntaxError(recognizer, offendingSymbol, line,
+                                charPositionInLine, msg, e);
+                    }
+                }
+            });
+        }
+
+        private Lease start(CharStream stream, TokenFactory<?> tokenFactory, boolean reportErrors) {
+            this.reportErrors = reportErrors;
+            lexer.setTokenFactory(tokenFactory);
+            lexer.setInputStream(stream); // Also resets the lexer state
+            return this;
+        }
+
+        public JavaLexer lexer() {
+            return lexer;
+        }
+
+        @Override
+        public void close() {
+            // Don't keep the text alive while pooled
+            input.reset("");
+            if (lexer.getInputStream() != input) {
+                lexer.setInputStream(input);
+            }
+            FREE_LEASES.get().push(this);
+        }
+    }
+
+    // Hands out the same token every time, refilled by the lexer for each match
+    private static final class RecyclingTokenFactory implements TokenFactory<CommonToken> {
+        private final RecycledToken token = new RecycledToken();
+
+        @Override
+        public CommonToken create(Pair<TokenSource, CharStream> source, int type, String text, int channel,
+                                  int start, int stop, int line, int charPositionInLine) {
+            return token.set(source, type, text, channel, start, stop, line, charPositionInLine);
+        }
+
+        @Override
+        public CommonToken create(int type, String text) {
+            return new CommonToken(type, text);
+        }
+    }
+
+    private static final class RecycledToken extends CommonToken {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        RecycledToken() {
+            super(Token.INVALID_TYPE);
+        }
+
+        RecycledToken set(Pair<TokenSource, CharStream> source, int type, String text, int channel,
+                          int start, int stop, int line, int charPositionInLine) {
+            this.source = source;
+            this.type = type;
+            this.text = text;
+            this.channel = channel;
+            this.start = start;
+            this.stop = stop;
+            this.line = line;
+            this.charPositionInLine = charPositionInLine;
+            this.index = -1;
+            return this;
+        }
+    }
+}
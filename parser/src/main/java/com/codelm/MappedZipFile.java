@@ -0,0 +1,319 @@
+package com.codelm;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * Read-only zip archive backed by a memory map, for the zips written by {@link ParsingText}.
+ * <p>
+ * The central directory (including zip64 records) is parsed straight from the map. STORED entries are returned as
+ * slices of the map, so reading them copies nothing and needs no stream objects; DEFLATED entries are inflated
+ * from the map into a reused buffer. {@link EntryReader} decodes entries as UTF-8 into a reused {@link CharBuffer},
+ * which every consumer of this tree ({@link ModelTokenCodec#encodeToIds(CharSequence, TokenIdBuffer)}, the lexer,
+ * {@link GarbageFileFilter#prefilter(CharSequence)}) reads as a {@link CharSequence}.
+ * <p>
+ * Slices are absolute, so one instance can be read from many threads, each with its own {@link EntryReader}.
+ * Archives over 2 GB are mapped entry by entry.
+ */
+public class MappedZipFile implements Closeable {
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+    private static final int END_SIGNATURE = 0x06054b50;
+    private static final int ZIP64_END_SIGNATURE = 0x06064b50;
+    private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+    private static final int ZIP64_EXTRA_ID = 0x0001;
+    private static final int END_SIZE = 22;
+    private static final int ZIP64_LOCATOR_SIZE = 20;
+    private static final int MAX_COMMENT_LENGTH = 0xFFFF;
+
+    public static final int STORED = 0;
+    public static final int DEFLATED = 8;
+
+    /**
+     * One central directory record.
+     */
+    public static final class Entry {
+        private final String name;
+        private final int method;
+        private final long compressedSize;
+        private final long size;
+        private final long localHeaderOffset;
+        // Resolved on first read, the local header may have a different extra field than the central one
+        private volatile long dataOffset = -1;
+
+        private Entry(String name, int method, long compressedSize, long size, long localHeaderOffset) {
+            this.name = name;
+            this.method = method;
+            this.compressedSize = compressedSize;
+            this.size = size;
+            this.localHeaderOffset = localHeaderOffset;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getMethod() {
+            return method;
+        }
+
+        /**
+         * @return Uncompressed size in bytes.
+         */
+        public long getSize() {
+            return size;
+        }
+
+        public boolean isDirectory() {
+            return name.endsWith("/");
+        }
+    }
+
+    private final Path path;
+    private final FileChannel channel;
+    private final long fileSize;
+    // Whole file, null if it is too large for one buffer
+    private final MappedByteBuffer map;
+    private final List<Entry> entries;
+
+    private MappedZipFile(Path path) throws IOException {
+        this.path = path;
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            this.fileSize = channel.size();
+            this.map = fileSize <= Integer.MAX_VALUE ? channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize) : null;
+            this.entries = Collections.unmodifiableList(readCentralDirectory());
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public static MappedZipFile open(Path path) throws IOException {
+        return new MappedZipFile(path);
+    }
+
+    /**
+     * @return Entries in central directory order.
+     */
+    public List<Entry> entries() {
+        return entries;
+    }
+
+    /**
+     * @return Number of {@code .java} file entries.
+     */
+    public long countJavaFiles() {
+        return entries.stream().filter(entry -> !entry.isDirectory() && entry.getName().endsWith(".java")).count();
+    }
+
+    /**
+     * Raw bytes of a STORED entry or compressed bytes of any other, read-only and positioned at 0.
+     */
+    public ByteBuffer rawData(Entry entry) throws IOException {
+        long offset = entry.dataOffset;
+        if (offset < 0) {
+            ByteBuffer header = region(entry.localHeaderOffset, 30);
+            if (header.getInt(0) != LOCAL_HEADER_SIGNATURE) {
+                throw new ZipException("Bad local header for " + entry.name + " in " + path);
+            }
+            offset = entry.localHeaderOffset + 30 + Short.toUnsignedInt(header.getShort(26))
+                    + Short.toUnsignedInt(header.getShort(28));
+            entry.dataOffset = offset;
+        }
+        return region(offset, entry.method == STORED ? entry.size : entry.compressedSize);
+    }
+
+    @Override
+    public void close() throws IOException {
+        // The map itself is released once unreachable
+        channel.close();
+    }
+
+    private ByteBuffer region(long offset, long length) throws IOException {
+        if (offset < 0 || length < 0 || offset + length > fileSize || length > Integer.MAX_VALUE) {
+            throw new ZipException("Entry data outside of " + path);
+        }
+        ByteBuffer region = map != null
+                ? map.slice((int) offset, (int) length)
+                : channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+        return region.order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private List<Entry> readCentralDirectory() throws IOException {
+        // End of central directory record, followed by a comment of up to 64 KB
+        long tailStart = Math.max(0, fileSize - END_SIZE - MAX_COMMENT_LENGTH);
+        ByteBuffer tail = region(tailStart, fileSize - tailStart);
+        int end = -1;
+        for (int i = tail.limit() - END_SIZE; i >= 0; i--) {
+            if (tail.getInt(i) == END_SIGNATURE && i + END_SIZE + Short.toUnsignedInt(tail.getShort(i + 20)) <= tail.limit()) {
+                end = i;
+                break;
+            }
+        }
+        if (end < 0) {
+            throw new ZipException("No end of central directory in " + path);
+        }
+
+        long entryCount = Short.toUnsignedInt(tail.getShort(end + 10));
+        long directorySize = Integer.toUnsignedLong(tail.getInt(end + 12));
+        long directoryOffset = Integer.toUnsignedLong(tail.getInt(end + 16));
+
+        // Saturated fields mean the real values are in the zip64 record, found through its locator
+        if (entryCount == 0xFFFF || directorySize == 0xFFFFFFFFL || directoryOffset == 0xFFFFFFFFL) {
+            long locatorOffset = tailStart + end - ZIP64_LOCATOR_SIZE;
+            if (locatorOffset >= 0) {
+                ByteBuffer locator = region(locatorOffset, ZIP64_LOCATOR_SIZE);
+                if (locator.getInt(0) == ZIP64_LOCATOR_SIGNATURE) {
+                    ByteBuffer zip64End = region(locator.getLong(8), 56);
+                    if (zip64End.getInt(0) != ZIP64_END_SIGNATURE) {
+                        throw new ZipException("Bad zip64 end of central directory in " + path);
+                    }
+                    entryCount = zip64End.getLong(32);
+                    directorySize = zip64End.getLong(40);
+                    directoryOffset = zip64End.getLong(48);
+                }
+            }
+        }
+
+        ByteBuffer directory = region(directoryOffset, directorySize);
+        List<Entry> entries = new ArrayList<>((int) Math.min(entryCount, 1 << 16));
+        int position = 0;
+        for (long i = 0; i < entryCount; i++) {
+            if (position + 46 > directory.limit() || directory.getInt(position) != CENTRAL_HEADER_SIGNATURE) {
+                throw new ZipException("Bad central directory entry " + i + " in " + path);
+            }
+            int method = Short.toUnsignedInt(directory.getShort(position + 10));
+            long compressedSize = Integer.toUnsignedLong(directory.getInt(position + 20));
+            long size = Integer.toUnsignedLong(directory.getInt(position + 24));
+            int nameLength = Short.toUnsignedInt(directory.getShort(position + 28));
+            int extraLength = Short.toUnsignedInt(directory.getShort(position + 30));
+            int commentLength = Short.toUnsignedInt(directory.getShort(position + 32));
+            long localHeaderOffset = Integer.toUnsignedLong(directory.getInt(position + 42));
+
+            int nameStart = position + 46;
+            int extraStart = nameStart + nameLength;
+            int next = extraStart + extraLength + commentLength;
+            if (next > directory.limit()) {
+                throw new ZipException("Bad central directory entry " + i + " in " + path);
+            }
+            // Names are read as UTF-8, like java.util.zip.ZipFile does by default
+            String name = StandardCharsets.UTF_8.decode(directory.slice(nameStart, nameLength)).toString();
+
+            // The zip64 extra field holds, in this order, only the sizes and offset that were saturated
+            if (size == 0xFFFFFFFFL || compressedSize == 0xFFFFFFFFL || localHeaderOffset == 0xFFFFFFFFL) {
+                int extra = extraStart;
+                while (extra + 4 <= extraStart + extraLength) {
+                    int id = Short.toUnsignedInt(directory.getShort(extra));
+                    int length = Short.toUnsignedInt(directory.getShort(extra + 2));
+                    if (id == ZIP64_EXTRA_ID) {
+                        int field = extra + 4;
+                        if (size == 0xFFFFFFFFL && field + 8 <= extra + 4 + length) {
+                            size = directory.getLong(field);
+                            field += 8;
+                        }
+                        if (compressedSize == 0xFFFFFFFFL && field + 8 <= extra + 4 + length) {
+                            compressedSize = directory.getLong(field);
+                            field += 8;
+                        }
+                        if (localHeaderOffset == 0xFFFFFFFFL && field + 8 <= extra + 4 + length) {
+                            localHeaderOffset = directory.getLong(field);
+                        }
+                        break;
+                    }
+                    extra += 4 + length;
+                }
+            }
+
+            entries.add(new Entry(name, method, compressedSize, size, localHeaderOffset));
+            position = next;
+        }
+        return entries;
+    }
+
+    /**
+     * Per-thread decoding state: a UTF-8 decoder, the char buffer entries are decoded into and, for DEFLATED
+     * entries, an inflater and its output buffer. All of them are reused from entry to entry.
+     */
+    public static final class EntryReader {
+        // Malformed input is replaced, like new String(bytes, UTF_8) does
+        private final CharsetDecoder utf8 = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        private CharBuffer chars = CharBuffer.allocate(1 << 16);
+        private Inflater inflater;
+        private ByteBuffer inflated;
+
+        /**
+         * Decodes an entry as UTF-8.
+         *
+         * @return The text, valid until the next call on this reader.
+         */
+        public CharBuffer read(MappedZipFile zip, Entry entry) throws IOException {
+            ByteBuffer bytes = bytes(zip, entry);
+
+            // UTF-8 never decodes to more chars than it has bytes
+            if (chars.capacity() < bytes.remaining()) {
+                chars = CharBuffer.allocate(Math.max(bytes.remaining(), chars.capacity() * 2));
+            }
+            chars.clear();
+            utf8.reset();
+            CoderResult result = utf8.decode(bytes, chars, true);
+            if (!result.isUnderflow()) {
+                result.throwException();
+            }
+            utf8.flush(chars);
+            return chars.flip();
+        }
+
+        private ByteBuffer bytes(MappedZipFile zip, Entry entry) throws IOException {
+            ByteBuffer raw = zip.rawData(entry);
+            if (entry.method == STORED) {
+                return raw;
+            }
+            if (entry.method != DEFLATED) {
+                throw new ZipException("Unsupported compression method " + entry.method + " for " + entry.name);
+            }
+            if (entry.size > Integer.MAX_VALUE) {
+                throw new ZipException("Entry too large: " + entry.name);
+            }
+
+            if (inflater == null) {
+                inflater = new Inflater(true);
+            }
+            if (inflated == null || inflated.capacity() < entry.size) {
+                inflated = ByteBuffer.allocate((int) Math.max(entry.size, 1 << 16));
+            }
+            inflater.reset();
+            inflater.setInput(raw);
+            inflated.clear().limit((int) entry.size);
+            try {
+                while (inflated.hasRemaining() && !inflater.finished()) {
+                    if (inflater.inflate(inflated) == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                        throw new ZipException("Truncated deflate data for " + entry.name);
+                    }
+                }
+            } catch (DataFormatException e) {
+                throw new ZipException("Bad deflate data for " + entry.name + ": " + e.getMessage());
+            }
+            return inflated.flip();
+        }
+    }
+}
@@ -5,16 +5,16 @@ import org.antlr.v4.runtime.*;
 
 import java.io.*;
 import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.nio.ShortBuffer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import java.util.zip.ZipFile;
 
 public class ModelTokenCodec {
 
@@ -48,7 +48,52 @@ public class ModelTokenCodec {
     public static final String FALSE_TOKEN_KEY = "!LEX_FALSE";
     private short newlineId = -1;
 
+    // Frequency file or snapshot the identifier vocabulary is loaded from, see IdentifierVocabulary
+    public static final String IDENTIFIERS_PROPERTY = "codelm.identifiers";
+    public static final String IDENTIFIERS_TO_ADD_PROPERTY = "codelm.identifiersToAdd";
+    public static final String DEFAULT_IDENTIFIERS_FILE = "../data/analysis_output/identifiers_count.txt";
+
+    // Passes over the bundled warm-up sample before serving, 0 to skip, see warmUp()
+    public static final String WARMUP_PROPERTY = "codelm.warmup";
+    private static final String WARMUP_RESOURCE = "lexer-warmup.txt";
+
+    private final IdentifierVocabulary identifierVocabulary;
+    private final short identifierBaseId;
+
+    // Vocabulary compiled into dense tables for the encoder, which would otherwise build a key String per token
+    private static final short NO_ID = -1;
+    private final short[] tokenTypeIds; // Indexed by ANTLR token type, NO_ID for types without a model token
+    private final short[] asciiCharIds = new short[128]; // Indexed by char, out of range chars hold the substitute
+    private final short substituteCharId;
+    private final short trueId;
+    private final short falseId;
+
+    private final TokenDecoder decoder;
+
+    // Reused by the batch modes, zip entries are decoded and stripped into per-thread buffers
+    private static final ThreadLocal<MappedZipFile.EntryReader> ENTRY_READERS =
+            ThreadLocal.withInitial(MappedZipFile.EntryReader::new);
+    private static final ThreadLocal<StringBuilder> STRIPPED_ENTRIES = ThreadLocal.withInitial(StringBuilder::new);
+    // Entries encoded in parallel before batchEncodeBinary appends them in order, bounds the IDs held in memory
+    private static final int SHARD_ENCODE_BATCH = 4096;
+
+    /**
+     * @param identifiersToAdd Number of most frequent identifiers to encode as single tokens, loaded from
+     *                         the file named by the {@value #IDENTIFIERS_PROPERTY} system property
+     *                         (default {@value #DEFAULT_IDENTIFIERS_FILE}).
+     */
     public ModelTokenCodec(int identifiersToAdd) throws IOException {
+        this(identifiersToAdd > 0
+                ? IdentifierVocabulary.load(Paths.get(System.getProperty(IDENTIFIERS_PROPERTY, DEFAULT_IDENTIFIERS_FILE)), identifiersToAdd)
+                : IdentifierVocabulary.EMPTY);
+    }
+
+    /**
+     * @param identifiers Identifiers encoded as single tokens, their IDs follow the lexer token types in order.
+     */
+    public ModelTokenCodec(IdentifierVocabulary identifiers) {
+        this.identifierVocabulary = identifiers;
+
         // New line token for line preservation in binary files and store the ID
         _addTokenToMap(NEWLINE_TOKEN_KEY, "<EOL>"); // ID 0
 
@@ -81,17 +126,52 @@ public class ModelTokenCodec {
             }
         }
 
+        this.tokenTypeIds = new short[antlrVocabulary.getMaxTokenType() + 1];
+        for (int type = 0; type < tokenTypeIds.length; type++) {
+            ModelToken modelToken = encodingMap.get(lexerTokenTypeToModelTokenKey(type));
+            tokenTypeIds[type] = modelToken != null ? modelToken.id : NO_ID;
+        }
+        for (char c = 0; c < asciiCharIds.length; c++) {
+            asciiCharIds[c] = encodingMap.get(asciiCharToModelTokenKey(c)).id;
+        }
+        this.substituteCharId = encodingMap.get(Character.toString(CHAR_SUBSTITUTE)).id;
+        this.trueId = encodingMap.get(TRUE_TOKEN_KEY).id;
+        this.falseId = encodingMap.get(FALSE_TOKEN_KEY).id;
+
         int mapSizeBeforeIdents = decodingTable.size();
+        if (mapSizeBeforeIdents + identifiers.size() > Short.MAX_VALUE + 1) {
+            throw new IllegalArgumentException("Too many identifiers for 16-bit token IDs: " + identifiers.size());
+        }
 
-        if (identifiersToAdd > 0) {
-            List<String> identifiers = getIdentifiers(identifiersToAdd);
-            for (String identifier : identifiers) {
-                _addTokenToMap(identifier);
+        // Encoding finds identifiers by their vocabulary index, so their IDs have to be contiguous
+        this.identifierBaseId = (short) mapSizeBeforeIdents;
+        for (int i = 0; i < identifiers.size(); i++) {
+            String identifier = identifiers.get(i);
+            if (encodingMap.containsKey(identifier)) {
+                throw new IllegalArgumentException("Identifier clashes with a built-in token: " + identifier);
             }
+            _addTokenToMap(identifier);
         }
 
         int identsAdded = decodingTable.size() - mapSizeBeforeIdents;
 
+        // Literal values are not encoded, they decode to placeholders
+        int[] numberTypes = {JavaLexer.DECIMAL_LITERAL, JavaLexer.HEX_LITERAL, JavaLexer.OCT_LITERAL,
+                JavaLexer.BINARY_LITERAL, JavaLexer.FLOAT_LITERAL, JavaLexer.HEX_FLOAT_LITERAL};
+        short[] placeholderIds = new short[numberTypes.length + 3];
+        String[] placeholders = new String[placeholderIds.length];
+        for (int i = 0; i < numberTypes.length; i++) {
+            placeholderIds[i] = tokenTypeIds[numberTypes[i]];
+            placeholders[i] = "0 ";
+        }
+        placeholderIds[numberTypes.length] = tokenTypeIds[JavaLexer.CHAR_LITERAL];
+        placeholders[numberTypes.length] = "'x' ";
+        placeholderIds[numberTypes.length + 1] = tokenTypeIds[JavaLexer.STRING_LITERAL];
+        placeholders[numberTypes.length + 1] = "\"\" ";
+        placeholderIds[numberTypes.length + 2] = tokenTypeIds[JavaLexer.TEXT_BLOCK];
+        placeholders[numberTypes.length + 2] = "\"\" ";
+        this.decoder = new TokenDecoder(decodingTable, newlineId, tokenTypeIds[JavaLexer.IDENTIFIER], placeholderIds, placeholders);
+
         //System.out.println("Initialized ModelTokenCodec. Vocabulary size: " + decodingTable.size());
         //System.out.println("Number of identifiers added: " + identsAdded);
     }
@@ -109,6 +189,10 @@ public class ModelTokenCodec {
         _addTokenToMap(key, key);
     }
 
+    public short getNewlineId() {
+        return newlineId;
+    }
+
     public String lexerTokenTypeToModelTokenKey(int type) {
         String symbolicName = antlrVocabulary.getSymbolicName(type);
         if (symbolicName == null) {
@@ -128,87 +212,152 @@ public class ModelTokenCodec {
     }
 
     public List<String> getIdentifiers(int count) throws IOException {
-        String identifiersFilePath = "C:\\Users\\spide\\Desktop\\Repos\\Full-Line-Code-Completion\\custom_bpe_0\\assets\\missing_idents.txt";
+        Path identifiersFilePath = Paths.get(System.getProperty(IDENTIFIERS_PROPERTY, DEFAULT_IDENTIFIERS_FILE));
+        return IdentifierVocabulary.load(identifiersFilePath, count).toList();
+    }
 
-        FileReader fr = new FileReader(identifiersFilePath);
-        BufferedReader br = new BufferedReader(fr);
+    /**
+     * Codec with the identifier vocabulary named by the {@value #IDENTIFIERS_PROPERTY} system property, limited to
+     * {@value #IDENTIFIERS_TO_ADD_PROPERTY} entries if set. Without the property no identifiers are added.
+     */
+    public static ModelTokenCodec fromSystemProperties() throws IOException {
+        String identifiersPath = System.getProperty(IDENTIFIERS_PROPERTY);
+        if (identifiersPath == null) {
+            return new ModelTokenCodec(IdentifierVocabulary.EMPTY);
+        }
+        int identifiersToAdd = Integer.getInteger(IDENTIFIERS_TO_ADD_PROPERTY, Integer.MAX_VALUE);
+        return new ModelTokenCodec(IdentifierVocabulary.load(Paths.get(identifiersPath), identifiersToAdd));
+    }
 
-        List<String> identifiers = new ArrayList<>();
-        String line;
-        String identifier;
-        for (int i = 0; i < count; i++) {
-            line = br.readLine();
-            //identifier = line.split(":")[0];
-            identifiers.add(line);
+    /**
+     * Encodes and decodes the bundled warm-up sample, which covers every lexer rule real files reach.
+     * <p>
+     * ANTLR builds the lexer DFA lazily, so the first files a JVM lexes run through the much slower ATN simulation.
+     * The DFA is shared by every {@link JavaLexer} in the JVM, so one pass fills it for all later requests and further
+     * passes get the encode and decode paths compiled. ANTLR cannot save and restore DFA states, so replaying
+     * representative input is the way to pre-build them.
+     *
+     * @param passes Number of passes over the sample.
+     */
+    public void warmUp(int passes) throws IOException {
+        String sample = warmUpSample();
+        TokenIdBuffer ids = new TokenIdBuffer();
+        StringBuilder decoded = new StringBuilder();
+        for (int pass = 0; pass < passes; pass++) {
+            ids.clear();
+            encodeToIds(sample, ids);
+            decoded.setLength(0);
+            decodeIds(ids.array(), 0, ids.size(), decoded);
+            decodeUnicodeStringToJava(encodeFileToUnicodeString(sample));
         }
+    }
 
-        return identifiers;
+    static String warmUpSample() throws IOException {
+        try (InputStream in = ModelTokenCodec.class.getResourceAsStream(WARMUP_RESOURCE)) {
+            if (in == null) {
+                throw new FileNotFoundException("Missing resource " + WARMUP_RESOURCE);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
     }
 
     /**
      * Encodes the string content of a Java file directly into a string of Unicode PUA characters.
      * This method works entirely in-memory to maximize performance.
      *
-     * @param javaContent The string content of the Java file.
+     * @param javaContent The content of the Java file.
      * @return A string where each character represents a token ID, mapped to the PUA.
      * @throws IOException If the lexer encounters an issue.
      */
-    public String encodeFileToUnicodeString(String javaContent) throws IOException {
-        JavaLexer lexer = new JavaLexer(CharStreams.fromString(javaContent));
-        StringBuilder unicodeBuilder = new StringBuilder();
+    public String encodeFileToUnicodeString(CharSequence javaContent) throws IOException {
+        TokenIdBuffer ids = new TokenIdBuffer(javaContent.length() / 4);
+        encodeToIds(javaContent, ids);
 
-        for (Token token : lexer.getAllTokens()) {
-            if (token.getType() == Token.EOF) {
-                break;
-            }
+        StringBuilder unicodeBuilder = new StringBuilder(ids.size());
+        appendIdsAsPua(ids, unicodeBuilder);
+        return unicodeBuilder.toString();
+    }
 
-            int tokenType = token.getType();
-            String tokenText = token.getText();
+    /**
+     * Encodes Java source straight into model token IDs, skipping the PUA string entirely.
+     * The lexer reads the input in place and the IDs go into the caller's buffer, so a reused
+     * buffer makes encoding allocation-light for large files.
+     *
+     * @param javaContent The Java source, any {@link CharSequence} (String, StringBuilder, CharBuffer...).
+     * @param out         Buffer the IDs are appended to. It is not cleared first.
+     */
+    public void encodeToIds(CharSequence javaContent, TokenIdBuffer out) {
+        try (LexerPool.Lease lease = LexerPool.scanner(javaContent, true)) {
+            JavaLexer lexer = lease.lexer();
+            Token token;
+            while ((token = lexer.nextToken()).getType() != Token.EOF) {
+                encodeToken(token.getType(), javaContent, token.getStartIndex(), token.getStopIndex() + 1, out);
+            }
+        }
+    }
 
-            if (tokenType == JavaLexer.COMMENT || tokenType == JavaLexer.LINE_COMMENT) continue;
+    /**
+     * Appends the model token IDs of a single lexer token. Hidden tokens only contribute their line breaks.
+     * Shared by the whole-file encoders and {@link EncodingSession} so they all produce identical output.
+     *
+     * @param tokenType ANTLR token type from {@link JavaLexer}.
+     * @param source    Text the token was lexed from.
+     * @param start     Start of the token in {@code source}, inclusive.
+     * @param end       End of the token in {@code source}, exclusive.
+     * @param out       Buffer the IDs are appended to.
+     */
+    void encodeToken(int tokenType, CharSequence source, int start, int end, TokenIdBuffer out) {
+        if (tokenType == JavaLexer.COMMENT || tokenType == JavaLexer.LINE_COMMENT) return;
 
-            if (tokenType == JavaLexer.WS) {
-                for (char c : tokenText.toCharArray()) {
-                    if (c == '\n') {
-                        appendIdAsPua(unicodeBuilder, this.newlineId);
-                        unicodeBuilder.append('\n'); // Preserve line breaks in output
-                    }
+        if (tokenType == JavaLexer.WS) {
+            for (int i = start; i < end; i++) {
+                if (source.charAt(i) == '\n') {
+                    out.add(this.newlineId);
                 }
-                continue;
             }
+            return;
+        }
 
-            String tokenKey = lexerTokenTypeToModelTokenKey(tokenType);
-            ModelToken modelToken = encodingMap.get(tokenKey);
+        short typeId = tokenType >= 0 && tokenType < tokenTypeIds.length ? tokenTypeIds[tokenType] : NO_ID;
+        if (typeId == NO_ID) return;
 
-            if (modelToken == null) continue;
+        if (tokenType == JavaLexer.BOOL_LITERAL) {
+            out.add(source.charAt(start) == 't' ? trueId : falseId);
+            return;
+        }
 
-            if (tokenType == JavaLexer.BOOL_LITERAL) {
-                ModelToken boolToken = encodingMap.get(tokenText.equals("true") ? TRUE_TOKEN_KEY : FALSE_TOKEN_KEY);
-                if (boolToken != null) {
-                    appendIdAsPua(unicodeBuilder, boolToken.id);
+        if (tokenType == JavaLexer.IDENTIFIER) {
+            int identId = lookupIdentifier(source, start, end);
+            if (identId >= 0) {
+                out.add((short) identId);
+            } else {
+                out.add(typeId); // IDENTIFIER token
+                for (int i = start; i < end; i++) {
+                    out.add(charId(source.charAt(i)));
                 }
-                continue;
             }
+            return;
+        }
 
-            if (tokenType == JavaLexer.IDENTIFIER) {
-                ModelToken identToken = encodingMap.get(tokenText);
-                if (identToken != null) {
-                    appendIdAsPua(unicodeBuilder, identToken.id);
-                } else {
-                    appendIdAsPua(unicodeBuilder, modelToken.id); // IDENTIFIER token
-                    for (char c : tokenText.toCharArray()) {
-                        ModelToken charModelToken = encodingMap.get(asciiCharToModelTokenKey(c));
-                        if (charModelToken != null) {
-                            appendIdAsPua(unicodeBuilder, charModelToken.id);
-                        }
-                    }
-                }
-                continue;
-            }
+        out.add(typeId);
+    }
+
+    // Same as looking up asciiCharToModelTokenKey(c)
+    private short charId(char c) {
+        return c < asciiCharIds.length ? asciiCharIds[c] : substituteCharId;
+    }
 
-            appendIdAsPua(unicodeBuilder, modelToken.id);
+    // ID of an identifier encoded as a single token, or -1 if it has to be spelled out
+    private int lookupIdentifier(CharSequence source, int start, int end) {
+        if (end - start == 1) {
+            // Single character identifiers resolve to the character tokens
+            char c = source.charAt(start);
+            if (c >= CHAR_MIN_VALUE && c <= CHAR_MAX_VALUE) {
+                return asciiCharIds[c];
+            }
         }
-        return unicodeBuilder.toString();
+        int index = identifierVocabulary.indexOf(source, start, end);
+        return index < 0 ? -1 : identifierBaseId + index;
     }
 
     /**
@@ -219,95 +368,13 @@ public class ModelTokenCodec {
      * @return The reconstructed Java code as a string.
      */
     public String decodeUnicodeStringToJava(String unicodeString) {
-        StringBuilder sb = new StringBuilder();
-        // Cache token IDs for efficiency inside the loop.
-        short identifierId = encodingMap.get(lexerTokenTypeToModelTokenKey(JavaLexer.IDENTIFIER)).id;
-
-        // Literal IDs for placeholder substitution
-        short decimalLiteralId = encodingMap.get(lexerTokenTypeToModelTokenKey(JavaLexer.DECIMAL_LITERAL)).id;
-        short hexLiteralId = encodingMap.get(lexerTokenTypeToModelTokenKey(JavaLexer.HEX_LITERAL)).id;
-        short octLiteralId = encodingMap.get(lexerTokenTypeToModelTokenKey(JavaLexer.OCT_LITERAL)).id;
-        short binaryLiteralId = encodingMap.get(lexerTokenTypeToModelTokenKey(JavaLexer.BINARY_LITERAL)).id;
-        short floatLiteralId = encodingMap.get(lexerTokenTypeToModelTokenKey(JavaLexer.FLOAT_LITERAL)).id;
-        short hexFloatLiteralId = encodingMap.get(lexerTokenTypeToModelTokenKey(JavaLexer.HEX_FLOAT_LITERAL)).id;
-        short charLiteralId = encodingMap.get(lexerTokenTypeToModelTokenKey(JavaLexer.CHAR_LITERAL)).id;
-        short stringLiteralId = encodingMap.get(lexerTokenTypeToModelTokenKey(JavaLexer.STRING_LITERAL)).id;
-        short textBlockId = encodingMap.get(lexerTokenTypeToModelTokenKey(JavaLexer.TEXT_BLOCK)).id;
-
-        boolean inIdentifier = false;
-
-        for (char puaChar : unicodeString.toCharArray()) {
-            // The encoder adds a literal '\n' after the PUA newline character for readability.
-            // We can skip the literal '\n' and just handle the PUA character that represents a newline.
-            if (puaChar == '\n') {
-                continue;
-            }
-
-            // Convert the PUA character back to a token ID.
-            short id = (short) (puaChar - PUA_START);
-            //System.out.print(id + " ");
-
-            // Defensive check for out-of-bounds IDs.
-            if (id < 0 || id >= decodingTable.size()) {
-                sb.append("<?>"); // Placeholder for an unknown or invalid token
-                //System.err.println("Invalid ID: " + id + " Decoding table size: " + decodingTable.size() + " PUA Char: " + puaChar);
-                inIdentifier = false;
-                continue;
-            }
-
-            // Handle newline tokens.
-            if (this.newlineId != -1 && id == this.newlineId) {
-                sb.append('\n');
-                inIdentifier = false;
-                continue;
-            }
-
-            // Handle the start of an identifier.
-            if (id == identifierId) {
-                if (inIdentifier) {
-                    sb.append(" "); // Space between adjacent identifiers
-                }
-                inIdentifier = true;
-                continue;
-            }
-
-            ModelToken token = decodingTable.get(id);
-            String value = token.value;
-
-            // If we are currently building an identifier and the token is a single character,
-            // append it directly without a space.
-            if (inIdentifier && token.key.length() == 1) {
-                sb.append(value);
-                continue;
-            }
-
-            // If we were in an identifier and the new token is not a character part of it,
-            // the identifier has ended. Add a space before processing the new token.
-            if (inIdentifier) {
-                sb.append(" ");
-                inIdentifier = false;
-            }
-
-            // Handle placeholder replacements for literals.
-            if (id == decimalLiteralId || id == hexLiteralId || id == octLiteralId || id == binaryLiteralId ||
-                    id == floatLiteralId || id == hexFloatLiteralId) {
-                sb.append("0 ");
-                continue;
-            }
-            if (id == charLiteralId) {
-                sb.append("'x' ");
-                continue;
-            }
-            if (id == stringLiteralId || id == textBlockId) {
-                sb.append("\"\" ");
-                continue;
-            }
-
-            // Append the token's value followed by a space.
-            sb.append(value).append(" ");
+        StringBuilder sb = new StringBuilder(unicodeString.length() * 4);
+        try {
+            decoder.decodePua(unicodeString, sb);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // StringBuilder does not throw
         }
-
-        return sb.toString().trim();
+        return sb.toString();
     }
 
     /**
@@ -319,104 +386,120 @@ public class ModelTokenCodec {
         }
     }
 
-    public String decodeIds(String idString) {
-        StringBuilder sb = new StringBuilder();
-        short identifierId = encodingMap.get(lexerTokenTypeToModelTokenKey(JavaLexer.IDENTIFIER)).id;
-        short currentNewlineId = this.newlineId;
-
-        // Literal IDs
-        short decimalLiteralId = encodingMap.get(lexerTokenTypeToModelTokenKey(JavaLexer.DECIMAL_LITERAL)).id;
-        short hexLiteralId = encodingMap.get(lexerTokenTypeToModelTokenKey(JavaLexer.HEX_LITERAL)).id;
-        short octLiteralId = encodingMap.get(lexerTokenTypeToModelTokenKey(JavaLexer.OCT_LITERAL)).id;
-        short binaryLiteralId = encodingMap.get(lexerTokenTypeToModelTokenKey(JavaLexer.BINARY_LITERAL)).id;
-        short floatLiteralId = encodingMap.get(lexerTokenTypeToModelTokenKey(JavaLexer.FLOAT_LITERAL)).id;
-        short hexFloatLiteralId = encodingMap.get(lexerTokenTypeToModelTokenKey(JavaLexer.HEX_FLOAT_LITERAL)).id;
-        short charLiteralId = encodingMap.get(lexerTokenTypeToModelTokenKey(JavaLexer.CHAR_LITERAL)).id;
-        short stringLiteralId = encodingMap.get(lexerTokenTypeToModelTokenKey(JavaLexer.STRING_LITERAL)).id;
-        short textBlockId = encodingMap.get(lexerTokenTypeToModelTokenKey(JavaLexer.TEXT_BLOCK)).id;
-        // ************
-
-        boolean inIdentifier = false;
-
-        String[] idTokens = idString.trim().split("[ \\n]+");
-
-        for (String idToken : idTokens) {
-            if (idToken.isEmpty()) {
-                continue;
+    /**
+     * Appends IDs as PUA characters, following every newline token with a literal '\n' like the Unicode corpus does.
+     */
+    void appendIdsAsPua(TokenIdBuffer ids, StringBuilder builder) {
+        short[] array = ids.array();
+        for (int i = 0; i < ids.size(); i++) {
+            appendIdAsPua(builder, array[i]);
+            if (array[i] == this.newlineId) {
+                builder.append('\n'); // Preserve line breaks in output
             }
+        }
+    }
 
-            short id;
-            try {
-                id = Short.parseShort(idToken);
-            } catch (NumberFormatException e) {
-                System.err.println("Invalid ID format during decode: " + idToken);
-                sb.append("<?>"); // Placeholder for invalid ID
-                inIdentifier = false;
-                continue;
+    public String decodeIds(String idString) {
+        TokenIdBuffer ids = new TokenIdBuffer(idString.length() / 2);
+
+        // Hand-rolled split on whitespace, IDs that do not parse become an out-of-range placeholder ID
+        int length = idString.length();
+        int i = 0;
+        while (i < length) {
+            while (i < length && idString.charAt(i) <= ' ') {
+                i++;
             }
-
-            // 1. Defensive check for ID bounds
-            if (id < 0 || id >= decodingTable.size()) {
-                System.err.println("Encountered out of bounds ID during decode: " + id);
-                sb.append("<?>"); // Placeholder for unknown ID
-                inIdentifier = false;
-                continue;
+            int tokenStart = i;
+            while (i < length && idString.charAt(i) > ' ') {
+                i++;
             }
-
-            // 2. Check for newline ID
-            if (currentNewlineId != -1 && id == currentNewlineId) {
-                sb.append('\n');
-                inIdentifier = false;
+            if (tokenStart == i) {
                 continue;
             }
 
-            // 3. Skip identifier marker token
-            if (id == identifierId) {
-                // If we're already in an identifier, that means the last one just ended
-                // Insert a space before starting the next one
-                if (inIdentifier) {
-                    sb.append(" ");
-                }
-                inIdentifier = true;
-                continue;
+            int id = parseId(idString, tokenStart, i);
+            if (id == Integer.MIN_VALUE) {
+                System.err.println("Invalid ID format during decode: " + idString.substring(tokenStart, i));
+                id = -1;
+            } else if (id < 0 || id >= decodingTable.size()) {
+                System.err.println("Encountered out of bounds ID during decode: " + id);
             }
+            ids.add((short) id);
+        }
 
-            ModelToken token = decodingTable.get(id);
-            String val = token.value;
-
-            // 4. If we were in an identifier and this token is a single-char ASCII
-            // treat it as part of that identifier (no space).
-            if (inIdentifier && token.key.length() == 1) {
-                sb.append(val);
-                continue;
-            }
+        return decodeIds(ids.array(), 0, ids.size());
+    }
 
-            // 5. Otherwise, if we were in an identifier that just ended
-            if (inIdentifier) {
-                sb.append(" "); // Space after identifier
-                inIdentifier = false;
-            }
+    /**
+     * Parses a decimal short without allocating.
+     *
+     * @return The value, or {@link Integer#MIN_VALUE} if the text is not a valid short.
+     */
+    private static int parseId(CharSequence text, int start, int end) {
+        boolean negative = text.charAt(start) == '-';
+        int i = negative || text.charAt(start) == '+' ? start + 1 : start;
+        if (i == end) {
+            return Integer.MIN_VALUE;
+        }
 
-            // 6. Handle literals
-            if (id == decimalLiteralId || id == hexLiteralId || id == octLiteralId || id == binaryLiteralId ||
-                    id == floatLiteralId || id == hexFloatLiteralId) {
-                sb.append("0 ");
-                continue;
+        int value = 0;
+        for (; i < end; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return Integer.MIN_VALUE;
             }
-            if (id == charLiteralId) {
-                sb.append("'x' ");
-                continue;
-            }
-            if (id == stringLiteralId || id == textBlockId) {
-                sb.append("\"\" ");
-                continue;
+            value = value * 10 + digit;
+            if (value > Short.MAX_VALUE + 1) {
+                return Integer.MIN_VALUE;
             }
+        }
+        value = negative ? -value : value;
+        return value > Short.MAX_VALUE ? Integer.MIN_VALUE : value;
+    }
+
+    /**
+     * Decodes model token IDs back into Java code.
+     *
+     * @param ids    Array holding the IDs, e.g. {@link TokenIdBuffer#array()}.
+     * @param offset Index of the first ID to decode.
+     * @param length Number of IDs to decode.
+     * @return The reconstructed Java code as a string.
+     */
+    public String decodeIds(short[] ids, int offset, int length) {
+        StringBuilder sb = new StringBuilder(length * 4);
+        decodeIds(ids, offset, length, sb);
+        return sb.toString();
+    }
 
-            // 7. Complete the token and add space
-            sb.append(val).append(" ");
+    /**
+     * Decodes model token IDs back into Java code, appending to a caller-supplied builder.
+     * Leading and trailing whitespace of the decoded part is trimmed like in {@link #decodeIds(String)}.
+     *
+     * @param ids    Array holding the IDs, e.g. {@link TokenIdBuffer#array()}.
+     * @param offset Index of the first ID to decode.
+     * @param length Number of IDs to decode.
+     * @param sb     Builder the code is appended to.
+     */
+    public void decodeIds(short[] ids, int offset, int length, StringBuilder sb) {
+        try {
+            decoder.decode(ids, offset, length, sb);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // StringBuilder does not throw
         }
+    }
 
-        return sb.toString().trim();
+    /**
+     * Decodes model token IDs back into Java code, writing to any {@link Appendable} such as a
+     * {@link java.nio.CharBuffer} or a writer. The output is trimmed like in {@link #decodeIds(String)}.
+     *
+     * @param ids    Array holding the IDs, e.g. {@link TokenIdBuffer#array()}.
+     * @param offset Index of the first ID to decode.
+     * @param length Number of IDs to decode.
+     * @param out    Destination of the code.
+     * @throws IOException If the destination throws.
+     */
+    public void decodeIds(short[] ids, int offset, int length, Appendable out) throws IOException {
+        decoder.decode(ids, offset, length, out);
     }
 
     public String decodeToIds(ByteBuffer byteBuffer) {
@@ -433,9 +516,9 @@ public class ModelTokenCodec {
     }
 
     public static List<Token> lex(String input) {
-        try {
-            JavaLexer lexer = new JavaLexer(CharStreams.fromString(input));
-            CommonTokenStream commonTokenStream = new CommonTokenStream(lexer);
+        // The tokens outlive the lease, so they read from a stream of their own
+        try (LexerPool.Lease lease = LexerPool.tokenizer(new CharSequenceCharStream(input), true)) {
+            CommonTokenStream commonTokenStream = new CommonTokenStream(lease.lexer());
             commonTokenStream.fill();
             return commonTokenStream.getTokens();
         } catch (Exception e) {
@@ -457,44 +540,6 @@ public class ModelTokenCodec {
         Files.writeString(Paths.get(outputPath), sb.toString(), StandardCharsets.UTF_8);
     }
 
-    private static void printProgressBar(int processedCount, int total, long startTime) {
-        int percent = (int) (((double) processedCount / total) * 100);
-        StringBuilder bar = new StringBuilder("[");
-        int progress = (int) (((double) processedCount / total) * 50); // 50 chars bar
-        for (int i = 0; i < 50; i++) {
-            bar.append(i < progress ? "=" : (i == progress ? ">" : " "));
-        }
-        bar.append("] ")
-                .append(percent)
-                .append("% (")
-                .append(processedCount)
-                .append("/")
-                .append(total)
-                .append(")");
-
-        // --- ETA Calculation ---
-        String etaStr = "ETA: Calculating...";
-        if (processedCount > 0) {
-            long elapsedTimeMs = System.currentTimeMillis() - startTime;
-            double timePerFileMs = (double) elapsedTimeMs / processedCount;
-            long remainingTimeMs = (long) (timePerFileMs * (total - processedCount));
-            etaStr = "ETA: " + formatDuration(remainingTimeMs);
-        }
-        bar.append(" ").append(etaStr);
-
-        System.out.print("\r" + bar.toString());
-    }
-
-    private static String formatDuration(long millis) {
-        if (millis < 0) {
-            return "N/A";
-        }
-        long hours = java.util.concurrent.TimeUnit.MILLISECONDS.toHours(millis);
-        long minutes = java.util.concurrent.TimeUnit.MILLISECONDS.toMinutes(millis) % 60;
-        long seconds = java.util.concurrent.TimeUnit.MILLISECONDS.toSeconds(millis) % 60;
-        return String.format("%02d:%02d:%02d", hours, minutes, seconds);
-    }
-
     /**
      * Processes dataset in zip files in parallel, encodes using encodeFileToUnicodeString and outputs to subfolders.
      *
@@ -502,8 +547,9 @@ public class ModelTokenCodec {
      * @param outputDirectoryPath
      * @throws IOException
      */
+    @SuppressWarnings("try") // The reporter is only closed, to stop it and print the summary
     private static void encodeZip(String inputDirectoryPath, String outputDirectoryPath) throws IOException {
-        ModelTokenCodec codec = new ModelTokenCodec(0);
+        ModelTokenCodec codec = fromSystemProperties();
 
         System.out.println("Scanning for Java files in: " + inputDirectoryPath);
 
@@ -524,10 +570,8 @@ public class ModelTokenCodec {
         System.out.println("Calculating total number of Java files...");
         long totalJavaFiles = zipFiles.parallelStream()
                 .mapToLong(zipFilePath -> {
-                    try (ZipFile zipFile = new ZipFile(zipFilePath.toFile())) {
-                        return zipFile.stream()
-                                .filter(entry -> !entry.isDirectory() && entry.getName().endsWith(".java"))
-                                .count();
+                    try (MappedZipFile zipFile = MappedZipFile.open(zipFilePath)) {
+                        return zipFile.countJavaFiles();
                     } catch (IOException e) {
                         System.err.println("\nWarning: Could not read zip file for counting: " + zipFilePath + ". Skipping.");
                         return 0;
@@ -542,64 +586,65 @@ public class ModelTokenCodec {
 
         System.out.println(totalJavaFiles + " Java files found in " + zipFiles.size() + " ZIPs. Starting parallel processing...");
 
-        AtomicInteger processedCount = new AtomicInteger(0);
-        long startTime = System.currentTimeMillis();
-        final int totalFilesForBar = (int) totalJavaFiles; // For use in lambda
-        printProgressBar(0, totalFilesForBar, startTime);
-
-        // Process zip files in parallel.
-        zipFiles.parallelStream().forEach(zipFilePath -> {
-            String zipFileName = zipFilePath.getFileName().toString();
-            String zipNameWithoutExt = zipFileName.substring(0, zipFileName.lastIndexOf('.'));
-            Path zipOutputBaseDir = Paths.get(outputDirectoryPath, zipNameWithoutExt);
-
-            try (ZipFile zipFile = new ZipFile(zipFilePath.toFile())) {
-                zipFile.stream()
-                        .parallel() // Process entries within a single zip in parallel
-                        .filter(zipEntry -> !zipEntry.isDirectory() && zipEntry.getName().endsWith(".java"))
-                        .forEach(javaEntry -> {
-                            try {
-                                // Determine output path, preserving the zip's internal directory structure within the new subfolder.
-                                Path relativePath = Paths.get(javaEntry.getName());
-                                Path outputSubDirPath = zipOutputBaseDir;
-                                if (relativePath.getParent() != null) {
-                                    outputSubDirPath = Paths.get(zipOutputBaseDir.toString(), relativePath.getParent().toString());
-                                }
-                                Files.createDirectories(outputSubDirPath);
-
-                                String fileNameWithoutExt = relativePath.getFileName().toString().replace(".java", "");
-                                String unicodeOutputPath = Paths.get(outputSubDirPath.toString(), fileNameWithoutExt + "_unicode.txt").toString();
-
-                                // Read file content from the zip entry.
-                                String content;
-                                try (InputStream is = zipFile.getInputStream(javaEntry);
-                                     BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
-                                    content = reader.lines()
-                                            .map(String::strip)
-                                            .filter(line -> !line.isEmpty())
-                                            .collect(Collectors.joining("\n"));
-                                }
-
-                                // Process and write the file if it's not empty.
-                                if (!content.isEmpty()) {
-                                    String finalContent = content + "\n";
-                                    String unicodeString = codec.encodeFileToUnicodeString(finalContent);
-                                    Files.writeString(Paths.get(unicodeOutputPath), unicodeString, StandardCharsets.UTF_8);
+        PipelineMetrics.expect(totalJavaFiles, zipFiles.size());
+        try (PipelineMetrics.Reporter reporter = PipelineMetrics.startReporter()) {
+            // Process zip files in parallel.
+            zipFiles.parallelStream().forEach(zipFilePath -> {
+                String zipFileName = zipFilePath.getFileName().toString();
+                String zipNameWithoutExt = zipFileName.substring(0, zipFileName.lastIndexOf('.'));
+                Path zipOutputBaseDir = Paths.get(outputDirectoryPath, zipNameWithoutExt);
+
+                try (MappedZipFile zipFile = MappedZipFile.open(zipFilePath)) {
+                    zipFile.entries().parallelStream() // Process entries within a single zip in parallel
+                            .filter(zipEntry -> !zipEntry.isDirectory() && zipEntry.getName().endsWith(".java"))
+                            .forEach(javaEntry -> {
+                                PipelineMetrics.FileTimer timer = null;
+                                try {
+                                    // Determine output path, preserving the zip's internal directory structure within the new subfolder.
+                                    Path relativePath = Paths.get(javaEntry.getName());
+                                    Path outputSubDirPath = zipOutputBaseDir;
+                                    if (relativePath.getParent() != null) {
+                                        outputSubDirPath = Paths.get(zipOutputBaseDir.toString(), relativePath.getParent().toString());
+                                    }
+                                    Files.createDirectories(outputSubDirPath);
+
+                                    String fileNameWithoutExt = relativePath.getFileName().toString().replace(".java", "");
+                                    String unicodeOutputPath = Paths.get(outputSubDirPath.toString(), fileNameWithoutExt + "_unicode.txt").toString();
+
+                                    // Read file content from the zip entry.
+                                    timer = new PipelineMetrics.FileTimer("encode", javaEntry.getName(), javaEntry.getSize());
+                                    StringBuilder content = readStrippedEntry(zipFile, javaEntry);
+                                    timer.lap(PipelineMetrics.Stage.READ);
+
+                                    // Process and write the file if it's not empty.
+                                    if (!content.isEmpty()) {
+                                        content.append('\n');
+                                        String unicodeString = codec.encodeFileToUnicodeString(content);
+                                        timer.lap(PipelineMetrics.Stage.ENCODE);
+                                        Files.writeString(Paths.get(unicodeOutputPath), unicodeString, StandardCharsets.UTF_8);
+                                        timer.lap(PipelineMetrics.Stage.WRITE);
+                                        timer.finish("kept", true);
+                                    } else {
+                                        timer.finish("empty", false);
+                                    }
+                                } catch (IOException e) {
+                                    System.err.println("\nFailed to process entry " + javaEntry.getName() + " in zip " + zipFilePath + ": " + e.getMessage());
+                                    if (timer != null) {
+                                        timer.finish("failed", false);
+                                    } else {
+                                        PipelineMetrics.fileDone(false);
+                                    }
                                 }
-                            } catch (IOException e) {
-                                System.err.println("\nFailed to process entry " + javaEntry.getName() + " in zip " + zipFilePath + ": " + e.getMessage());
-                            } finally {
-                                // Increment counter and update progress bar for each file.
-                                int count = processedCount.incrementAndGet();
-                                printProgressBar(count, totalFilesForBar, startTime);
-                            }
-                        });
-            } catch (IOException e) {
-                System.err.println("\nFailed to open or read zip file " + zipFilePath + ": " + e.getMessage());
-            }
-        });
+                            });
+                } catch (IOException e) {
+                    System.err.println("\nFailed to open or read zip file " + zipFilePath + ": " + e.getMessage());
+                } finally {
+                    PipelineMetrics.zipDone();
+                }
+            });
+        }
 
-        System.out.println("\n------------------------------------");
+        System.out.println("------------------------------------");
         System.out.println("All files processed successfully.");
 
         // Write the vocabulary mapping file to the root of the output directory.
@@ -609,11 +654,179 @@ public class ModelTokenCodec {
         System.out.println("------------------------------------");
     }
 
+    /**
+     * Reads a zip entry with every line stripped and empty lines removed, the form the corpus is encoded in.
+     * The entry is decoded into a per-thread buffer and the result is a per-thread builder, valid until the
+     * next call on the same thread.
+     */
+    private static StringBuilder readStrippedEntry(MappedZipFile zipFile, MappedZipFile.Entry entry) throws IOException {
+        CharBuffer text = ENTRY_READERS.get().read(zipFile, entry);
+        StringBuilder stripped = STRIPPED_ENTRIES.get();
+        stripped.setLength(0);
+        appendStrippedLines(text, stripped);
+        return stripped;
+    }
+
+    /**
+     * Same as joining {@code BufferedReader.lines()} stripped and without empty lines with {@code "\n"}.
+     */
+    static void appendStrippedLines(CharSequence text, StringBuilder out) {
+        int outputStart = out.length();
+        int length = text.length();
+        int lineStart = 0;
+        while (lineStart < length) {
+            int lineEnd = lineStart;
+            while (lineEnd < length && text.charAt(lineEnd) != '\n' && text.charAt(lineEnd) != '\r') {
+                lineEnd++;
+            }
+            int next = lineEnd < length && text.charAt(lineEnd) == '\r' && lineEnd + 1 < length
+                    && text.charAt(lineEnd + 1) == '\n' ? lineEnd + 2 : lineEnd + 1;
+
+            // String.strip() bounds, no supplementary code point is whitespace
+            int start = lineStart;
+            int end = lineEnd;
+            while (start < end && Character.isWhitespace(text.charAt(start))) {
+                start++;
+            }
+            while (end > start && Character.isWhitespace(text.charAt(end - 1))) {
+                end--;
+            }
+            if (start < end) {
+                if (out.length() > outputStart) {
+                    out.append('\n');
+                }
+                out.append(text, start, end);
+            }
+            lineStart = next;
+        }
+    }
+
+    /**
+     * Processes dataset in zip files in parallel and streams the encoded token IDs into one binary
+     * {@link CorpusShardWriter} shard per input zip, instead of one text file per Java entry. Documents are in
+     * zip entry order, so the same zips always give the same shards.
+     * Token IDs are codec IDs, or final model IDs when a BPE tokenizer is given.
+     *
+     * @param inputDirectoryPath  Directory with the cleaned zip files.
+     * @param outputDirectoryPath Directory the shards are written to.
+     * @param bpe                 Tokenizer applied on top of the codec, may be null.
+     * @throws IOException
+     */
+    @SuppressWarnings("try") // The reporter is only closed, to stop it and print the summary
+    private static void encodeZipToShards(String inputDirectoryPath, String outputDirectoryPath, BpeTokenizer bpe) throws IOException {
+        ModelTokenCodec codec = fromSystemProperties();
+        Files.createDirectories(Paths.get(outputDirectoryPath));
+
+        List<Path> zipFiles;
+        try (Stream<Path> paths = Files.list(Paths.get(inputDirectoryPath))) {
+            zipFiles = paths
+                    .filter(path -> path.toString().toLowerCase().endsWith(".zip"))
+                    .filter(Files::isRegularFile)
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+
+        if (zipFiles.isEmpty()) {
+            System.out.println("No ZIP files found.");
+            return;
+        }
+
+        // Reused per worker thread so encoding does not allocate per file
+        ThreadLocal<TokenIdBuffer> codecIdBuffers = ThreadLocal.withInitial(TokenIdBuffer::new);
+        ThreadLocal<TokenIdBuffer> modelIdBuffers = ThreadLocal.withInitial(TokenIdBuffer::new);
+
+        AtomicLong totalTokens = new AtomicLong(0);
+        AtomicLong totalDocuments = new AtomicLong(0);
+        PipelineMetrics.expect(0, zipFiles.size());
+        try (PipelineMetrics.Reporter reporter = PipelineMetrics.startReporter()) {
+            zipFiles.parallelStream().forEach(zipFilePath -> {
+                String zipFileName = zipFilePath.getFileName().toString();
+                Path shardPath = Paths.get(outputDirectoryPath, zipFileName.substring(0, zipFileName.lastIndexOf('.')));
+
+                try (MappedZipFile zipFile = MappedZipFile.open(zipFilePath);
+                     CorpusShardWriter shard = new CorpusShardWriter(shardPath)) {
+                    List<MappedZipFile.Entry> javaEntries = zipFile.entries().stream()
+                            .filter(zipEntry -> !zipEntry.isDirectory() && zipEntry.getName().endsWith(".java"))
+                            .toList();
+                    // Encoded in parallel a batch at a time and appended in entry order, so shards are the same on every run
+                    for (int batchStart = 0; batchStart < javaEntries.size(); batchStart += SHARD_ENCODE_BATCH) {
+                        List<short[]> batch = javaEntries
+                                .subList(batchStart, Math.min(batchStart + SHARD_ENCODE_BATCH, javaEntries.size()))
+                                .parallelStream()
+                                .map(javaEntry -> encodeShardEntry(codec, bpe, zipFilePath, zipFile, javaEntry,
+                                        codecIdBuffers, modelIdBuffers))
+                                .toList();
+                        for (short[] ids : batch) {
+                            if (ids != null) {
+                                long writeStart = System.nanoTime();
+                                shard.append(ids, 0, ids.length);
+                                PipelineMetrics.record(PipelineMetrics.Stage.WRITE, writeStart);
+                            }
+                        }
+                    }
+                    totalTokens.addAndGet(shard.getTokenCount());
+                    totalDocuments.addAndGet(shard.getDocumentCount());
+                } catch (IOException e) {
+                    System.err.println("\nFailed to open or read zip file " + zipFilePath + ": " + e.getMessage());
+                } finally {
+                    PipelineMetrics.zipDone();
+                }
+            });
+        }
+
+        System.out.println("------------------------------------");
+        System.out.println("Encoded " + totalDocuments.get() + " files into " + totalTokens.get() + " tokens.");
+
+        String mapVocabPath = Paths.get(outputDirectoryPath, "mapVocab.txt").toString();
+        System.out.println("Writing vocabulary file to: " + mapVocabPath);
+        codec.writeVocabulary(mapVocabPath);
+        System.out.println("------------------------------------");
+    }
+
+    /**
+     * Reads and encodes one entry for {@link #encodeZipToShards(String, String, BpeTokenizer)}.
+     *
+     * @return The token IDs, or null if the entry is empty or could not be read.
+     */
+    private static short[] encodeShardEntry(ModelTokenCodec codec, BpeTokenizer bpe, Path zipFilePath,
+                                            MappedZipFile zipFile, MappedZipFile.Entry javaEntry,
+                                            ThreadLocal<TokenIdBuffer> codecIdBuffers,
+                                            ThreadLocal<TokenIdBuffer> modelIdBuffers) {
+        PipelineMetrics.FileTimer timer = new PipelineMetrics.FileTimer("encode", javaEntry.getName(), javaEntry.getSize());
+        try {
+            StringBuilder content = readStrippedEntry(zipFile, javaEntry);
+            timer.lap(PipelineMetrics.Stage.READ);
+            if (content.isEmpty()) {
+                timer.finish("empty", false);
+                return null;
+            }
+            content.append('\n');
+
+            TokenIdBuffer codecIds = codecIdBuffers.get();
+            codecIds.clear();
+            codec.encodeToIds(content, codecIds);
+
+            TokenIdBuffer ids = codecIds;
+            if (bpe != null) {
+                ids = modelIdBuffers.get();
+                ids.clear();
+                bpe.encodeCodecIds(codecIds, codec.getNewlineId(), ids);
+            }
+            timer.lap(PipelineMetrics.Stage.ENCODE);
+            timer.finish("kept", true);
+            return ids.toArray();
+        } catch (IOException e) {
+            System.err.println("\nFailed to process entry " + javaEntry.getName() + " in zip " + zipFilePath + ": " + e.getMessage());
+            timer.finish("failed", false);
+            return null;
+        }
+    }
+
     public static void main(String[] args) throws IOException {
         /*
         Compile to jar with (replace directory with your copy of ANTLR):
-        javac -cp "./antlr-4.13.2-complete.jar" target/generated-sources/antlr4/com/codelm/antlr/JavaLexer.java src/main/java/com/codelm/ModelTokenCodec.java -d out
-        jar cfe ModelTokenCodec.jar com.codelm.ModelTokenCodec -C out .
+        javac -cp "./antlr-4.13.2-complete.jar" target/generated-sources/antlr4/com/codelm/antlr/JavaLexer.java src/main/java/com/codelm/ModelTokenCodec.java src/main/java/com/codelm/CodecServer.java src/main/java/com/codelm/CharSequenceCharStream.java src/main/java/com/codelm/TokenIdBuffer.java src/main/java/com/codelm/BpeTokenizer.java src/main/java/com/codelm/CorpusShardWriter.java src/main/java/com/codelm/IdentifierVocabulary.java src/main/java/com/codelm/TokenDecoder.java src/main/java/com/codelm/MappedZipFile.java src/main/java/com/codelm/LexerPool.java src/main/java/com/codelm/PipelineMetrics.java src/main/java/com/codelm/SlowFileEvent.java -d out
+        jar cfe ModelTokenCodec.jar com.codelm.ModelTokenCodec -C out . -C src/main/resources .
          */
 
         // If no arguments are provided, print usage guide and exit.
@@ -623,12 +836,29 @@ public class ModelTokenCodec {
             System.err.println("  encode                  - Reads Java code from stdin and prints encoded Unicode to stdout.");
             System.err.println("  decode                  - Reads encoded Unicode from stdin and prints decoded Java to stdout.");
             System.err.println("  batchEncode             - Encodes all .zip files in inputDirectoryPath and saves to outputDirectoryPath.");
+            System.err.println("  batchEncodeBinary [tokenizer.json] - Like batchEncode, but writes one binary corpus shard (.bin/.idx) per zip,");
+            System.err.println("                            with final model IDs if a BPE tokenizer is given.");
             System.err.println("  testDecode              - Runs a built-in decoding test with a sample Unicode string.");
+            System.err.println("  encodeIds               - Reads Java code from stdin and writes a binary ID frame to stdout.");
+            System.err.println("  decodeIds               - Reads a binary ID frame from stdin and prints decoded Java to stdout.");
+            System.err.println("  encodeModelIds <tokenizer.json> - Like encodeIds, but applies the BPE merges and writes final model IDs.");
+            System.err.println("  decodeModelIds <tokenizer.json> - Like decodeIds, but reads final model IDs.");
+            System.err.println("  serve [socketPath]      - Keeps the codec running and serves framed encode/decode requests");
+            System.err.println("                            over stdin/stdout, or over a Unix-domain socket if a path is given.");
+            System.err.println("  buildIdentifierSnapshot <frequencyFile> <count> <snapshotFile> - Writes the <count> most frequent");
+            System.err.println("                            identifiers as a binary snapshot for fast startup.");
+            System.err.println("  trainArchive            - Runs every encode/decode and serve path over a bundled sample and exits.");
+            System.err.println("                            Training run for the class-data archive, see the appcds profile in pom.xml.");
+            System.err.println("System properties:");
+            System.err.println("  -D" + IDENTIFIERS_PROPERTY + "=<file>     - Identifier frequency file or snapshot to encode as single tokens.");
+            System.err.println("  -D" + IDENTIFIERS_TO_ADD_PROPERTY + "=<n> - Use only the n most frequent of them.");
+            System.err.println("  -D" + WARMUP_PROPERTY + "=<n>           - Warm-up passes over a bundled sample when serving (default 20, 0 to skip).");
+            System.err.println("  -D" + PipelineMetrics.INTERVAL_PROPERTY + "=<s>   - Seconds between progress and stage timing reports of the batch modes (default 10, 0 for the summary only).");
             System.exit(1);
         }
 
         String mode = args[0];
-        ModelTokenCodec codec = new ModelTokenCodec(0);
+        ModelTokenCodec codec = fromSystemProperties();
 
         switch (mode) {
             case "encode":
@@ -649,6 +879,58 @@ public class ModelTokenCodec {
                 }
                 break;
 
+            case "encodeIds":
+                try (Scanner scanner = new Scanner(System.in, StandardCharsets.UTF_8);
+                     DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out)))) {
+                    String inputContent = scanner.useDelimiter("\\A").next();
+                    TokenIdBuffer ids = new TokenIdBuffer();
+                    codec.encodeToIds(inputContent, ids);
+                    ids.writeFrame(out);
+                }
+                break;
+
+            case "decodeIds":
+                try (DataInputStream in = new DataInputStream(new BufferedInputStream(System.in))) {
+                    TokenIdBuffer ids = new TokenIdBuffer();
+                    ids.readFrame(in);
+                    System.setOut(new PrintStream(System.out, true, StandardCharsets.UTF_8));
+                    System.out.println(codec.decodeIds(ids.array(), 0, ids.size()));
+                }
+                break;
+
+            case "encodeModelIds":
+                if (args.length != 2) {
+                    System.err.println("Usage: java -jar ModelTokenCodec.jar encodeModelIds <tokenizer.json>");
+                    System.exit(1);
+                }
+                try (Scanner scanner = new Scanner(System.in, StandardCharsets.UTF_8);
+                     DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out)))) {
+                    BpeTokenizer bpe = BpeTokenizer.load(Paths.get(args[1]));
+                    String inputContent = scanner.useDelimiter("\\A").next();
+                    TokenIdBuffer codecIds = new TokenIdBuffer();
+                    codec.encodeToIds(inputContent, codecIds);
+                    TokenIdBuffer modelIds = new TokenIdBuffer();
+                    bpe.encodeCodecIds(codecIds, codec.getNewlineId(), modelIds);
+                    modelIds.writeFrame(out);
+                }
+                break;
+
+            case "decodeModelIds":
+                if (args.length != 2) {
+                    System.err.println("Usage: java -jar ModelTokenCodec.jar decodeModelIds <tokenizer.json>");
+                    System.exit(1);
+                }
+                try (DataInputStream in = new DataInputStream(new BufferedInputStream(System.in))) {
+                    BpeTokenizer bpe = BpeTokenizer.load(Paths.get(args[1]));
+                    TokenIdBuffer modelIds = new TokenIdBuffer();
+                    modelIds.readFrame(in);
+                    TokenIdBuffer codecIds = new TokenIdBuffer();
+                    bpe.decodeToCodecIds(modelIds.array(), 0, modelIds.size(), codecIds);
+                    System.setOut(new PrintStream(System.out, true, StandardCharsets.UTF_8));
+                    System.out.println(codec.decodeIds(codecIds.array(), 0, codecIds.size()));
+                }
+                break;
+
             case "batchEncode":
                 if (args.length != 1) {
                     System.err.println("Error: Incorrect arguments for batchEncode mode.");
@@ -663,6 +945,67 @@ public class ModelTokenCodec {
                 encodeZip(inputDirectoryPath, outputDirectoryPath);
                 break;
 
+            case "serve":
+                // Warms up alongside the first requests instead of delaying them, they share the DFA it builds
+                int warmupPasses = Integer.getInteger(WARMUP_PROPERTY, 20);
+                if (warmupPasses > 0) {
+                    Thread warmup = new Thread(() -> {
+                        try {
+                            codec.warmUp(warmupPasses);
+                        } catch (IOException e) {
+                            System.err.println("Warm-up failed: " + e.getMessage());
+                        }
+                    }, "codec-warmup");
+                    warmup.setDaemon(true);
+                    warmup.start();
+                }
+                CodecServer server = new CodecServer(codec);
+                if (args.length > 1) {
+                    server.serveUnixSocket(Paths.get(args[1]));
+                } else {
+                    server.serveStdio();
+                }
+                break;
+
+            case "batchEncodeBinary":
+                if (args.length > 2) {
+                    System.err.println("Error: Incorrect arguments for batchEncodeBinary mode.");
+                    System.err.println("Usage: java -jar ModelTokenCodec.jar batchEncodeBinary [tokenizer.json]");
+                    System.exit(1);
+                }
+                BpeTokenizer bpe = args.length == 2 ? BpeTokenizer.load(Paths.get(args[1])) : null;
+                String shardInputPath = "../data/cleaned_java_zip/";
+                String shardOutputPath = "../data/processed_corpus/";
+                System.out.println("Starting binary batch encoding...");
+                System.out.println("Input Directory: " + shardInputPath);
+                System.out.println("Output Directory: " + shardOutputPath);
+                encodeZipToShards(shardInputPath, shardOutputPath, bpe);
+                break;
+
+            case "buildIdentifierSnapshot":
+                if (args.length != 4) {
+                    System.err.println("Usage: java -jar ModelTokenCodec.jar buildIdentifierSnapshot <frequencyFile> <count> <snapshotFile>");
+                    System.exit(1);
+                }
+                IdentifierVocabulary vocabulary = IdentifierVocabulary.load(Paths.get(args[1]), Integer.parseInt(args[2]));
+                vocabulary.writeSnapshot(Paths.get(args[3]));
+                System.out.println("Wrote " + vocabulary.size() + " identifiers to " + args[3]);
+                break;
+
+            case "trainArchive":
+                // Run with -XX:+AutoCreateSharedArchive -XX:SharedArchiveFile=<jsa> (see the appcds profile and
+                // codec.sh), every class loaded here ends up in the archive written at exit
+                String sample = warmUpSample();
+                codec.warmUp(Integer.getInteger(WARMUP_PROPERTY, 20));
+                new CodecServer(codec).replay(sample);
+                // Same stdin/stdout handling as the encode and decode modes
+                try (Scanner scanner = new Scanner(new ByteArrayInputStream(sample.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8)) {
+                    PrintStream sink = new PrintStream(OutputStream.nullOutputStream(), true, StandardCharsets.UTF_8);
+                    sink.println(codec.encodeFileToUnicodeString(scanner.useDelimiter("\\A").next()));
+                }
+                System.out.println("Training run complete.");
+                break;
+
             case "testDecode":
                 System.out.println("Running built-in decode test...");
                 String inputContent = "\uE06A\uE0E1\uE034\uE050\uE04D\uE056\uE055\uE04A\uE050\uE04F\uE0B1\uE000";
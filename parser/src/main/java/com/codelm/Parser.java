@@ -8,9 +8,6 @@ import com.github.javaparser.ast.comments.Comment;
 import com.github.javaparser.ast.nodeTypes.NodeWithAnnotations;
 import com.github.javaparser.printer.DefaultPrettyPrinter;
 import com.github.javaparser.printer.lexicalpreservation.LexicalPreservingPrinter;
-import org.antlr.v4.runtime.CharStream;
-import org.antlr.v4.runtime.CharStreams;
-import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.Token;
 
 import java.util.Arrays;
@@ -25,6 +22,14 @@ public class Parser {
     public Parser() {}
 
     public String cleanJavaCode(String javaCode) {
+        return parseCleaned(javaCode).toString();
+    }
+
+    /**
+     * Parses Java code and strips comments and annotations from the AST, without printing it.
+     * Lets callers reuse the cleaned {@link CompilationUnit} instead of re-parsing the printed code.
+     */
+    public CompilationUnit parseCleaned(String javaCode) {
         String noPrefixCode = removePrefixLines(javaCode);
 
         // Calling formatJavaCode as it shifts in-line comments which otherwise would not get picked up by getAllComments()
@@ -38,10 +43,13 @@ public class Parser {
                 .filter(node -> node instanceof NodeWithAnnotations)
                 .forEach(node -> ((NodeWithAnnotations<?>) node).getAnnotations().clear());
 
-        return cu.toString();
+        return cu;
     }
 
-    private String removePrefixLines(String javaCode) {
+    /**
+     * Drops the lines before the first one starting like Java code, e.g. repository tags, and normalizes line breaks.
+     */
+    static String removePrefixLines(String javaCode) {
         // Standardize newlines to UNIX \n
         String normalizedCode = javaCode.replace("\r\n", "\n");
         normalizedCode = normalizedCode.replace("\r", "\n");
@@ -59,20 +67,20 @@ public class Parser {
     }
 
     public String formatJavaCode(String cleanCode){
-        CompilationUnit cu = StaticJavaParser.parse(cleanCode);
+        return formatJavaCode(StaticJavaParser.parse(cleanCode));
+    }
+
+    public String formatJavaCode(CompilationUnit cu) {
         DefaultPrettyPrinter printer = new DefaultPrettyPrinter();
         return printer.print(cu);
     }
 
     public String retokenize(String rawCode) {
-        CharStream input = CharStreams.fromString(rawCode);
-        JavaLexer lexer = new JavaLexer(input);
-        CommonTokenStream tokens = new CommonTokenStream(lexer);
-        tokens.fill();
-
         StringBuilder output = new StringBuilder();
-        for (Token token : tokens.getTokens()) {
-            if (token.getType() != Token.EOF) {
+        try (LexerPool.Lease lease = LexerPool.scanner(rawCode, true)) {
+            JavaLexer lexer = lease.lexer();
+            Token token;
+            while ((token = lexer.nextToken()).getType() != Token.EOF) {
                 output.append(token.getText()).append(" ");
             }
         }
@@ -1,204 +1,540 @@
 package com.codelm;
 
-import java.io.BufferedWriter;
+import java.io.Closeable;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.Callable;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
-import java.util.stream.Collectors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Stream;
-import java.util.zip.CRC32;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
-import java.util.zip.ZipOutputStream;
 
 /**
  * Run this class for the main preprocessing pipeline.
  * It also generates token type statistics from the whole dataset
+ * Stage concurrency is configured through {@link PipelineConfig} system properties, deduplication through the
+ * {@link Deduplicator} ones. Progress and per-stage timings are printed by the {@link PipelineMetrics} reporter.
+ * <p>
+ * Runs are resumable: every finished zip is recorded in a {@link RunManifest} with its stats, and a rerun skips the
+ * zips that did not change, merging their saved stats instead. Set {@code codelm.resume=false} to process everything
+ * again.
+ * <p>
+ * With the {@code corpus [tokenizer.json]} arguments, kept files are encoded on the workers right after cleaning, like
+ * {@code ModelTokenCodec batchEncodeBinary} would encode them from the cleaned zips, and streamed into one
+ * {@link CorpusShardWriter} shard per input zip in {@code processed_corpus}. The dataset is then read once and only
+ * the shards and the stats are written. The cleaned zips are only written as well with
+ * {@code -Dcodelm.writeCleaned=true}, for the zips processed by that run.
+ * <p>
+ * With a single zip reader (the default), duplicates are decided in zip and entry order, so an uninterrupted run
+ * keeps the same files and writes the same outputs every time.
  */
 public class ParsingText {
     private static final String INPUT_DIR = "../data/extracted_java_zip";
     private static final String OUTPUT_DIR = "../data/cleaned_java_zip";
+    private static final String CORPUS_DIR = "../data/processed_corpus";
     private static final String STATS_DIR = "../data/analysis_output";
     private static final String STATS_FILE = "../data/analysis_output/token_stats.txt";
-    private static final String LITERALS_LOG = "../data/analysis_output/literals.log";
-    private static final String IDENTIFIERS_LOG = "../data/analysis_output/identifiers.log";
-    private static final Parser parser = new Parser();
+    private static final String LITERALS_COUNT_FILE = "../data/analysis_output/literals_count.txt";
+    private static final String IDENTIFIERS_COUNT_FILE = "../data/analysis_output/identifiers_count.txt";
+    private static final String CHECKPOINT_DIR = "../data/analysis_output/checkpoints";
+    private static final String MANIFEST_FILE = "../data/cleaned_java_zip/manifest.tsv";
+    private static final String CORPUS_CHECKPOINT_DIR = "../data/analysis_output/corpus_checkpoints";
+    private static final String CORPUS_MANIFEST_FILE = "../data/processed_corpus/manifest.tsv";
+    private static final boolean RESUME = Boolean.parseBoolean(System.getProperty("codelm.resume", "true"));
+    private static final boolean WRITE_CLEANED = Boolean.parseBoolean(System.getProperty("codelm.writeCleaned", "false"));
+    private static final FrequencyIndex literalCounts = new FrequencyIndex();
+    private static final FrequencyIndex identifierCounts = new FrequencyIndex();
+    private static final Deduplicator deduplicator = Deduplicator.fromSystemProperties();
 
-    // Set thread pool size to the number of CPU cores
-    private static final int THREAD_POOL_SIZE = Runtime.getRuntime().availableProcessors();
-
-    public static void main(String[] args) throws IOException {
+    @SuppressWarnings("try") // The reporter is only closed, to stop it and print the summary
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length > 2 || (args.length > 0 && !args[0].equals("corpus"))) {
+            System.err.println("Usage: java -cp ... com.codelm.ParsingText [corpus [tokenizer.json]]");
+            System.err.println("  Without arguments, writes the cleaned files to " + OUTPUT_DIR + ".");
+            System.err.println("  corpus - Encodes the cleaned files straight into one binary corpus shard (.bin/.idx) per zip");
+            System.err.println("           in " + CORPUS_DIR + ", with final model IDs if a BPE tokenizer is given.");
+            System.err.println("           Add -Dcodelm.writeCleaned=true to write the cleaned zips as well.");
+            System.exit(1);
+        }
         Instant start = Instant.now();
 
+        BpeTokenizer bpe = args.length == 2 ? BpeTokenizer.load(Paths.get(args[1])) : null;
+        CorpusEncoder encoder = args.length > 0 ? new CorpusEncoder(ModelTokenCodec.fromSystemProperties(), bpe) : null;
+        boolean writeCleaned = encoder == null || WRITE_CLEANED;
+
         Path inputPath = Paths.get(INPUT_DIR);
         Path outputPath = Paths.get(OUTPUT_DIR);
-        Files.createDirectories(outputPath);
+        Path corpusPath = Paths.get(CORPUS_DIR);
+        if (writeCleaned) {
+            Files.createDirectories(outputPath);
+        }
+        if (encoder != null) {
+            Files.createDirectories(corpusPath);
+        }
         CumulativeTokenStats cStats = new CumulativeTokenStats();
 
-        // Clear log files at the start
         Files.createDirectories(Paths.get(STATS_DIR));
         File tokenStatsFile = new File(STATS_DIR + "/token_stats.txt");
-        File literalsFile = new File(STATS_DIR + "/literals.log");
-        File identifiersFile = new File(STATS_DIR + "/identifiers.log");
 
         if (!tokenStatsFile.exists()) {
             Files.createFile(tokenStatsFile.toPath());
         }
-        if (!literalsFile.exists()) {
-            Files.createFile(literalsFile.toPath());
-        }
-        if (!identifiersFile.exists()) {
-            Files.createFile(identifiersFile.toPath());
-        }
-        
-        Files.write(Paths.get(LITERALS_LOG), new ArrayList<>(), StandardOpenOption.CREATE,
-                StandardOpenOption.TRUNCATE_EXISTING);
-        Files.write(Paths.get(IDENTIFIERS_LOG), new ArrayList<>(), StandardOpenOption.CREATE,
-                StandardOpenOption.TRUNCATE_EXISTING);
 
         // Get the list of zip files
         List<Path> zipPaths;
         try (Stream<Path> stream = Files.list(inputPath)) {
-            zipPaths = stream.sorted().toList();
+            zipPaths = stream
+                    .filter(path -> path.toString().toLowerCase().endsWith(".zip"))
+                    .filter(Files::isRegularFile)
+                    .sorted()
+                    .toList();
+        }
+
+        // Zips finished by an earlier run only contribute their saved stats. The corpus mode tracks its shards
+        RunManifest manifest = encoder == null
+                ? RunManifest.open(Paths.get(MANIFEST_FILE), Paths.get(CHECKPOINT_DIR), outputPath, RESUME)
+                : RunManifest.open(Paths.get(CORPUS_MANIFEST_FILE), Paths.get(CORPUS_CHECKPOINT_DIR), corpusPath, RESUME);
+        List<Path> pendingZips = new ArrayList<>();
+        List<Path> doneZips = new ArrayList<>();
+        List<Path> doneOutputs = new ArrayList<>();
+        for (Path zipPath : zipPaths) {
+            if (manifest.isDone(zipPath)) {
+                try {
+                    mergeCheckpoint(manifest.loadCheckpoint(zipPath), cStats);
+                    doneZips.add(zipPath);
+                    doneOutputs.add(manifest.outputOf(zipPath));
+                    continue;
+                } catch (IOException e) {
+                    System.err.println("Error loading checkpoint of " + zipPath.getFileName() + ": " + e.getMessage());
+                }
+            }
+            pendingZips.add(zipPath);
+        }
+        if (!doneOutputs.isEmpty()) {
+            System.out.println("Skipping " + doneOutputs.size() + " zips processed by an earlier run");
         }
 
-        int totalZips = zipPaths.size();
-        int processedZips = 0;
+        PipelineMetrics.expect(0, pendingZips.size());
 
-        // Create a thread pool
-        try (ExecutorService executor = Executors.newFixedThreadPool(THREAD_POOL_SIZE)) {
-            // Iterate through all the zip files in the dataset
-            for (Path zipPath : zipPaths) {
+        // Caps the files held in memory between reading and writing, whatever the size of the zips
+        Semaphore inFlightFiles = new Semaphore(PipelineConfig.IN_FLIGHT_FILES);
+        // The next zips are read while the previous ones are still being processed and written
+        Semaphore zipReaders = new Semaphore(PipelineConfig.ZIP_READERS);
+        Semaphore openZips = new Semaphore(PipelineConfig.OPEN_ZIPS);
+
+        if (deduplicator.isEnabled() && !doneOutputs.isEmpty() && !pendingZips.isEmpty()) {
+            seedDeduplicator(encoder != null ? doneZips : doneOutputs, encoder != null, inFlightFiles);
+        }
+
+        // Readers and writers block on the disk, so they run on the I/O executor and only parsing takes CPU threads
+        try (PipelineMetrics.Reporter reporter = PipelineMetrics.startReporter();
+             ExecutorService workers = PipelineConfig.newCpuExecutor();
+             ExecutorService io = PipelineConfig.newIoExecutor()) {
+            for (Path zipPath : pendingZips) {
                 String zipName = zipPath.getFileName().toString();
-                Path outputZipPath = outputPath.resolve("processed_" + zipName);
+                String outputName = "processed_" + zipName;
+                Path outputZipPath = writeCleaned ? outputPath.resolve(outputName) : null;
+                Path shardPath = encoder != null ? corpusPath.resolve(stripExtension(outputName)) : null;
+                OutputWriter writer = new OutputWriter(zipName, outputZipPath, shardPath, encoder);
+                Path recordedOutput = shardPath != null
+                        ? withSuffix(shardPath, CorpusShardWriter.TOKENS_EXTENSION) : outputZipPath;
 
-                try (ZipFile zipFile = new ZipFile(zipPath.toFile());
-                     ZipOutputStream zos = new ZipOutputStream(new FileOutputStream(outputZipPath.toFile()))) {
+                // Stats of this zip alone, checkpointed with it
+                RunManifest.Checkpoint checkpoint = new RunManifest.Checkpoint(
+                        new CumulativeTokenStats(), new FrequencyIndex(), new FrequencyIndex());
+                FilePreprocessor preprocessor = new FilePreprocessor(
+                        checkpoint.identifierCounts(), checkpoint.literalCounts(), deduplicator);
 
-                    List<Callable<Result>> tasks = new ArrayList<>();
-                    for (ZipEntry entry : Collections.list(zipFile.entries())) {
-                        tasks.add(() -> {
-                            try {
-                                String content = new String(zipFile.getInputStream(entry).readAllBytes(), StandardCharsets.UTF_8);
-                                if (!GarbageFileFilter.isGarbage(entry.getName(), content)) {
-                                    String processedContent = parser.cleanJavaCode(content);
-                                    String formattedCode = parser.formatJavaCode(processedContent);
+                openZips.acquire();
+                zipReaders.acquire();
+                io.execute(() -> {
+                    // Stats of a zip whose outputs were discarded are dropped too, a resumed run processes it again
+                    if (writer.run(inFlightFiles)) {
+                        try {
+                            manifest.recordDone(zipPath, recordedOutput, checkpoint);
+                        } catch (IOException e) {
+                            System.err.println("Error saving checkpoint of " + zipName + ": " + e.getMessage());
+                        }
+                        mergeCheckpoint(checkpoint, cStats);
+                    }
+                    openZips.release();
+                    PipelineMetrics.zipDone();
+                });
+                io.execute(() -> {
+                    try {
+                        readZip(zipPath, writer, workers, inFlightFiles, preprocessor, checkpoint.stats(),
+                                writeCleaned, encoder);
+                    } finally {
+                        zipReaders.release();
+                    }
+                });
+            }
+        }
 
-                                    // Analyze token on the preprocessed code
-                                    TokenAnalyzer.TokenStats stats = TokenAnalyzer.analyze(formattedCode);
+        cStats.writeStatsToFile(STATS_FILE);
+        // Replaces the raw occurrence logs, same format as log_analyzer.sh produced from them
+        literalCounts.writeSorted(Paths.get(LITERALS_COUNT_FILE));
+        identifierCounts.writeSorted(Paths.get(IDENTIFIERS_COUNT_FILE));
 
-                                    return new Result(entry.getName(), formattedCode, stats);
+        Instant end = Instant.now();
+        long duration = Duration.between(start, end).toMinutes();
+
+        Files.writeString(Paths.get(STATS_FILE), "\nExact duplicates: " + deduplicator.getExactDuplicates()
+                + "\nNear duplicates: " + deduplicator.getNearDuplicates()
+                + "\nIt took " + duration + " minutes", StandardOpenOption.APPEND);
+
+        if (encoder != null) {
+            System.out.println("Encoded " + encoder.documents.sum() + " files into " + encoder.tokens.sum() + " tokens.");
+            encoder.codec.writeVocabulary(corpusPath.resolve("mapVocab.txt").toString());
+        }
+    }
+
+    private static void mergeCheckpoint(RunManifest.Checkpoint checkpoint, CumulativeTokenStats cStats) {
+        cStats.merge(checkpoint.stats());
+        identifierCounts.addAll(checkpoint.identifierCounts());
+        literalCounts.addAll(checkpoint.literalCounts());
+    }
+
+    /**
+     * Registers the files kept by an earlier run with the deduplicator, so their copies in new zips are dropped.
+     * <p>
+     * The corpus mode cannot read them back, the token IDs do not keep literal values, so the finished input zips
+     * are fingerprinted again instead: every file passing the name check and prefilter, which are the files an
+     * uninterrupted run would have fingerprinted.
+     *
+     * @param rawInput True if the zips are input zips rather than cleaned zips.
+     */
+    private static void seedDeduplicator(List<Path> zips, boolean rawInput, Semaphore inFlightFiles)
+            throws IOException, InterruptedException {
+        try (ExecutorService workers = PipelineConfig.newCpuExecutor()) {
+            for (Path zip : zips) {
+                try (ZipFile zipFile = new ZipFile(zip.toFile())) {
+                    for (ZipEntry entry : Collections.list(zipFile.entries())) {
+                        String content = new String(zipFile.getInputStream(entry).readAllBytes(), StandardCharsets.UTF_8);
+                        inFlightFiles.acquire();
+                        workers.execute(() -> {
+                            try {
+                                if (!rawInput || (!GarbageFileFilter.isGarbageFileName(entry.getName())
+                                        && GarbageFileFilter.prefilter(content) != GarbageFileFilter.Verdict.GARBAGE)) {
+                                    deduplicator.record(content);
                                 }
-                            } catch (Exception e) {
-                                // Filtering out files containing source code that does not compile
-                                //System.err.println("Error processing file " + entry.getName() + " in " + zipName + ": " + e.getMessage());
+                            } finally {
+                                inFlightFiles.release();
                             }
-
-                            return null;
                         });
                     }
+                }
+            }
+        }
+    }
 
-                    // Execute tasks in parallel
-                    List<Future<Result>> futures = executor.invokeAll(tasks);
+    /**
+     * Reader stage for one zip, hands every entry to the workers.
+     */
+    private static void readZip(Path zipPath, OutputWriter writer, ExecutorService workers, Semaphore inFlightFiles,
+                                FilePreprocessor preprocessor, CumulativeTokenStats cStats, boolean writeCleaned,
+                                CorpusEncoder encoder) {
+        int entryCount = 0;
+        boolean complete = false;
+        try (ZipFile zipFile = new ZipFile(zipPath.toFile())) {
+            for (ZipEntry entry : Collections.list(zipFile.entries())) {
+                inFlightFiles.acquire();
+                int index = entryCount++;
 
-                    // Process results sequentially
-                    for (Future<Result> future : futures) {
-                        Result result = future.get();
+                String content;
+                long readStart = System.nanoTime();
+                try {
+                    content = new String(zipFile.getInputStream(entry).readAllBytes(), StandardCharsets.UTF_8);
+                } catch (IOException e) {
+                    PipelineMetrics.fileDone(false);
+                    writer.complete(index, null);
+                    continue;
+                }
+                PipelineMetrics.record(PipelineMetrics.Stage.READ, readStart);
+
+                // Duplicates are decided in read order, so the same copy is kept on every run
+                deduplicator.execute(workers, turn -> {
+                    Output output = null;
+                    try {
+                        FilePreprocessor.Result result = preprocessor.process(entry.getName(), content, turn);
                         if (result != null) {
-                            // Convert formatted code to bytes for writing into zip files
-                            byte[] data = result.formattedCode.getBytes(StandardCharsets.UTF_8);
+                            if (result.stats != null) {
+                                cStats.update(result.stats);
+                            }
+                            // Checksummed, compressed and encoded here, so the writer only appends bytes
+                            ZipAppender.Entry cleaned = null;
+                            if (writeCleaned) {
+                                long compressStart = System.nanoTime();
+                                cleaned = ZipAppender.Entry.encode(result.fileName, result.formattedCode,
+                                        PipelineConfig.ZIP_LEVEL);
+                                PipelineMetrics.record(PipelineMetrics.Stage.COMPRESS, compressStart);
+                            }
+                            short[] ids = null;
+                            if (encoder != null) {
+                                long encodeStart = System.nanoTime();
+                                ids = encoder.encode(result.formattedCode);
+                                PipelineMetrics.record(PipelineMetrics.Stage.ENCODE, encodeStart);
+                            }
+                            output = new Output(cleaned, ids);
+                        }
+                    } finally {
+                        deduplicator.pass(turn);
+                        writer.complete(index, output);
+                    }
+                });
+            }
+            complete = true;
+        } catch (IOException e) {
+            System.err.println("Error processing " + zipPath.getFileName() + ": " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            writer.finish(entryCount, complete);
+        }
+    }
+
+    /**
+     * Outputs of one kept file, null where that output is not written.
+     *
+     * @param ids Token IDs, also null if the file has no code left to encode.
+     */
+    private record Output(ZipAppender.Entry cleaned, short[] ids) {
+    }
 
-                            // Configuring ZipEntry for uncompressed processing
-                            ZipEntry entry = new ZipEntry(result.fileName);
-                            entry.setMethod(ZipEntry.STORED);
-                            entry.setSize(data.length);
+    /**
+     * Writer stage for the outputs of one input zip: the cleaned zip, the corpus shard or both. The workers finish
+     * files in any order, already compressed and encoded, and the outputs are appended in entry order; every written
+     * or dropped file releases its in-flight permit. Outputs are written under temporary names and only renamed once
+     * the whole input zip was read and written, otherwise they are deleted, so neither a crash nor an unreadable
+     * input ever leaves a truncated output that looks finished.
+     */
+    private static class OutputWriter {
+        private record Completed(int index, Output output) {
+        }
 
-                            // Calculate CRC-32 checksum (needed for writing uncompressed zip files)
-                            CRC32 crc = new CRC32();
-                            crc.update(data);
-                            entry.setCrc(crc.getValue());
+        private static final Completed END = new Completed(-1, null);
 
-                            // Write to output zip
-                            zos.putNextEntry(entry);
-                            zos.write(data);
-                            zos.closeEntry();
+        private final String zipName;
+        private final Path outputZipPath;
+        private final Path shardPath;
+        private final CorpusEncoder encoder;
+        private final BlockingQueue<Completed> completed = new LinkedBlockingQueue<>();
+        private volatile int entryCount = -1;
+        private volatile boolean readComplete;
 
-                            if (result.stats != null) {
-                                cStats.update(result.stats);
-                                appendToFile(LITERALS_LOG, result.stats.literalValues);
-                                appendToFile(IDENTIFIERS_LOG, result.stats.identifierValues);
+        /**
+         * @param outputZipPath Cleaned zip to write, or null.
+         * @param shardPath     Shard to write without extension, or null.
+         * @param encoder       Totals of the corpus mode, or null.
+         */
+        OutputWriter(String zipName, Path outputZipPath, Path shardPath, CorpusEncoder encoder) {
+            this.zipName = zipName;
+            this.outputZipPath = outputZipPath;
+            this.shardPath = shardPath;
+            this.encoder = encoder;
+        }
+
+        /**
+         * Hands over the outputs of one entry, null if the file was dropped.
+         */
+        void complete(int index, Output output) {
+            completed.add(new Completed(index, output));
+        }
+
+        /**
+         * Called by the reader once all entries of the zip have been handed out.
+         *
+         * @param complete False if the zip could not be read to the end.
+         */
+        void finish(int entryCount, boolean complete) {
+            this.readComplete = complete;
+            this.entryCount = entryCount;
+            completed.add(END);
+        }
+
+        /**
+         * @return True if every entry of the input zip was read and every output was written completely.
+         */
+        boolean run(Semaphore inFlightFiles) {
+            Map<Integer, Output> pending = new HashMap<>();
+            int next = 0;
+            boolean written = false;
+            boolean failed = false;
+
+            Path partZipPath = outputZipPath != null ? withSuffix(outputZipPath, ".part") : null;
+            Path partShardPath = shardPath != null ? withSuffix(shardPath, ".part") : null;
+            ZipAppender zip = null;
+            CorpusShardWriter shard = null;
+            try {
+                zip = partZipPath != null ? new ZipAppender(partZipPath) : null;
+                shard = partShardPath != null ? new CorpusShardWriter(partShardPath) : null;
+            } catch (IOException e) {
+                System.err.println("Error processing " + zipName + ": " + e.getMessage());
+                failed = true;
+            }
+
+            try {
+                while (entryCount < 0 || next < entryCount) {
+                    Completed c = completed.take();
+                    if (c != END) {
+                        pending.put(c.index(), c.output());
+                    }
+
+                    while (pending.containsKey(next)) {
+                        Output output = pending.remove(next++);
+                        inFlightFiles.release();
+                        if (output == null || failed) {
+                            continue;
+                        }
+
+                        try {
+                            long writeStart = System.nanoTime();
+                            if (output.cleaned() != null) {
+                                zip.append(output.cleaned());
+                            }
+                            if (output.ids() != null) {
+                                shard.append(output.ids(), 0, output.ids().length);
                             }
+                            PipelineMetrics.record(PipelineMetrics.Stage.WRITE, writeStart);
+                        } catch (IOException e) {
+                            // Keep draining so the permits of the remaining files are released
+                            System.err.println("Error processing " + zipName + ": " + e.getMessage());
+                            failed = true;
                         }
                     }
-                } catch (Exception e) {
-                    System.err.println("Error processing " + zipName + ": " + e.getMessage());
                 }
-
-                // Progress update
-                processedZips++;
-                updateProgress(processedZips, totalZips, start);
+                // An input zip read only partly must not leave an output that looks finished
+                if (!failed && readComplete) {
+                    if (zip != null) {
+                        zip.close();
+                        zip = null;
+                        Files.move(partZipPath, outputZipPath, StandardCopyOption.REPLACE_EXISTING);
+                    }
+                    if (shard != null) {
+                        shard.close();
+                        // The tokens file is moved last, the manifest takes it as the sign of a finished shard
+                        moveShardFile(partShardPath, shardPath, CorpusShardWriter.INDEX_EXTENSION);
+                        moveShardFile(partShardPath, shardPath, CorpusShardWriter.TOKENS_EXTENSION);
+                        encoder.documents.add(shard.getDocumentCount());
+                        encoder.tokens.add(shard.getTokenCount());
+                        shard = null;
+                    }
+                    written = true;
+                }
+            } catch (IOException e) {
+                System.err.println("Error processing " + zipName + ": " + e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                closeQuietly(zip);
+                closeQuietly(shard);
+                if (!written) {
+                    deleteQuietly(partZipPath);
+                    if (partShardPath != null) {
+                        deleteQuietly(withSuffix(partShardPath, CorpusShardWriter.INDEX_EXTENSION));
+                        deleteQuietly(withSuffix(partShardPath, CorpusShardWriter.TOKENS_EXTENSION));
+                    }
+                }
             }
+            return written;
         }
 
-        cStats.writeStatsToFile(STATS_FILE);
-
-        Instant end = Instant.now();
-        long duration = Duration.between(start, end).toMinutes();
+        private static void moveShardFile(Path source, Path target, String extension) throws IOException {
+            Files.move(withSuffix(source, extension), withSuffix(target, extension), StandardCopyOption.REPLACE_EXISTING);
+        }
 
-        Files.writeString(Paths.get(STATS_FILE), "\nIt took " + duration + " minutes", StandardOpenOption.APPEND);
-    }
+        private void deleteQuietly(Path path) {
+            if (path == null) {
+                return;
+            }
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                System.err.println("Error deleting " + path + ": " + e.getMessage());
+            }
+        }
 
-    private static void appendToFile(String filePath, List<String> values) throws IOException {
-        try (BufferedWriter writer = Files.newBufferedWriter(Paths.get(filePath), StandardOpenOption.APPEND)) {
-            for (String value : values) {
-                writer.write(value);
-                writer.newLine();
+        private void closeQuietly(Closeable output) {
+            if (output == null) {
+                return;
+            }
+            try {
+                output.close();
+            } catch (IOException e) {
+                System.err.println("Error closing the outputs of " + zipName + ": " + e.getMessage());
             }
         }
     }
 
-    private static void updateProgress(int processed, int total, Instant start) {
-        int percent = (int) ((double) processed / total * 100);
-        long elapsed = Duration.between(start, Instant.now()).toMillis();
-        long estimatedTotal = (long) ((double) elapsed / processed * total);
-        long remaining = estimatedTotal - elapsed;
+    /**
+     * Encodes kept files for the corpus mode, the same way {@code ModelTokenCodec batchEncodeBinary} encodes the
+     * entries of the cleaned zips, and totals what the shards received.
+     */
+    private static final class CorpusEncoder {
+        final ModelTokenCodec codec;
+        private final BpeTokenizer bpe;
+        // Reused per worker thread so encoding does not allocate per file
+        private final ThreadLocal<StringBuilder> strippedCode = ThreadLocal.withInitial(StringBuilder::new);
+        private final ThreadLocal<TokenIdBuffer> codecIdBuffers = ThreadLocal.withInitial(TokenIdBuffer::new);
+        private final ThreadLocal<TokenIdBuffer> modelIdBuffers = ThreadLocal.withInitial(TokenIdBuffer::new);
+        final LongAdder documents = new LongAdder();
+        final LongAdder tokens = new LongAdder();
 
-        String bar = "[" + "=".repeat(percent / 2) + " ".repeat(50 - percent / 2) + "]";
-        System.out.printf("\r%s %d%% complete | Processed zips: %d | Elapsed: %s | Remaining: %s",
-                bar, percent, processed, formatTime(elapsed), formatTime(remaining));
-    }
+        /**
+         * @param bpe Tokenizer applied on top of the codec, may be null.
+         */
+        CorpusEncoder(ModelTokenCodec codec, BpeTokenizer bpe) {
+            this.codec = codec;
+            this.bpe = bpe;
+        }
 
-    private static String formatTime(long millis) {
-        long seconds = millis / 1000;
-        long minutes = seconds / 60;
-        seconds %= 60;
-        return String.format("%dm %ds", minutes, seconds);
+        /**
+         * @return Token IDs of the code with its lines stripped, or null if no code is left.
+         */
+        short[] encode(String formattedCode) {
+            StringBuilder content = strippedCode.get();
+            content.setLength(0);
+            ModelTokenCodec.appendStrippedLines(formattedCode, content);
+            if (content.isEmpty()) {
+                return null;
+            }
+            content.append('\n');
+
+            TokenIdBuffer ids = codecIdBuffers.get();
+            ids.clear();
+            codec.encodeToIds(content, ids);
+            if (bpe != null) {
+                TokenIdBuffer modelIds = modelIdBuffers.get();
+                modelIds.clear();
+                bpe.encodeCodecIds(ids, codec.getNewlineId(), modelIds);
+                ids = modelIds;
+            }
+            return ids.toArray();
+        }
     }
 
-    // Helper class to hold the result of processing each file (for thread safety)
-    private static class Result {
-        String fileName;
-        String formattedCode;
-        TokenAnalyzer.TokenStats stats;
+    private static Path withSuffix(Path path, String suffix) {
+        return path.resolveSibling(path.getFileName() + suffix);
+    }
 
-        public Result(String fileName, String formattedCode, TokenAnalyzer.TokenStats stats) {
-            this.fileName = fileName;
-            this.formattedCode = formattedCode;
-            this.stats = stats;
-        }
+    private static String stripExtension(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        return dot > 0 ? fileName.substring(0, dot) : fileName;
     }
 }
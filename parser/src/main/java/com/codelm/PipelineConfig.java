@@ -0,0 +1,82 @@
+package com.codelm;
+
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Stage-level concurrency and output format of the batch pipelines ({@link ParsingText}, {@link DatasetMetrics}).
+ * Every knob is a system property so it can be tuned per machine, e.g.
+ * {@code java -Dcodelm.cpuThreads=64 -Dcodelm.zipReaders=4 -cp ... com.codelm.ParsingText}.
+ * <ul>
+ *     <li>{@code codelm.cpuThreads} - platform threads parsing, formatting and analyzing files
+ *     (default: all cores)</li>
+ *     <li>{@code codelm.virtualIo} - run zip reading and writing on virtual threads instead of platform threads
+ *     (default: true)</li>
+ *     <li>{@code codelm.zipReaders} - zips read at the same time (default: 1). With more than one, files of different
+ *     zips are deduplicated in the order they happen to be read</li>
+ *     <li>{@code codelm.openZips} - zips read, processed or written at the same time (default: zipReaders + 1)</li>
+ *     <li>{@code codelm.inFlightFiles} - files read but not yet written, bounds memory use
+ *     (default: 4 per CPU thread)</li>
+ *     <li>{@code codelm.zipLevel} - deflate level of the zips written by {@link ParsingText}, compressed on the CPU
+ *     threads (default: 0, stored). Stored entries are read by {@link MappedZipFile} without a copy, deflated ones
+ *     are several times smaller but have to be inflated again by every later stage</li>
+ *     <li>{@code codelm.cleaner} - {@code javaparser} to clean and pretty-print files through JavaParser ASTs, or
+ *     {@code antlr} for the lexer-only {@link TokenStreamCleaner} (default: javaparser)</li>
+ *     <li>{@code codelm.strictValidation} - with the antlr cleaner, also parse every cleaned file with JavaParser and
+ *     drop the ones that do not parse (default: false)</li>
+ * </ul>
+ */
+public final class PipelineConfig {
+    public static final int CPU_THREADS = intProperty("codelm.cpuThreads", Runtime.getRuntime().availableProcessors());
+    public static final boolean VIRTUAL_IO = Boolean.parseBoolean(System.getProperty("codelm.virtualIo", "true"));
+    public static final int ZIP_READERS = intProperty("codelm.zipReaders", 1);
+    public static final int OPEN_ZIPS = Math.max(ZIP_READERS, intProperty("codelm.openZips", ZIP_READERS + 1));
+    public static final int IN_FLIGHT_FILES = intProperty("codelm.inFlightFiles", CPU_THREADS * 4);
+    public static final int ZIP_LEVEL = zipLevelProperty("codelm.zipLevel", 0);
+    public static final FilePreprocessor.Cleaner CLEANER = FilePreprocessor.Cleaner.valueOf(
+            System.getProperty("codelm.cleaner", "javaparser").trim().toUpperCase(Locale.ROOT));
+    public static final boolean STRICT_VALIDATION = Boolean.parseBoolean(System.getProperty("codelm.strictValidation", "false"));
+
+    private PipelineConfig() {
+    }
+
+    /**
+     * Pool for JavaParser work, sized to {@link #CPU_THREADS}.
+     */
+    public static ExecutorService newCpuExecutor() {
+        return Executors.newFixedThreadPool(CPU_THREADS);
+    }
+
+    /**
+     * Executor for blocking zip reads and writes. It is unbounded, concurrency is limited by the stages using it,
+     * so a thread blocked on the disk never keeps a file from being parsed.
+     */
+    public static ExecutorService newIoExecutor() {
+        return VIRTUAL_IO ? Executors.newVirtualThreadPerTaskExecutor() : Executors.newCachedThreadPool();
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        String value = System.getProperty(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        int parsed = Integer.parseInt(value.trim());
+        if (parsed < 1) {
+            throw new IllegalArgumentException(name + " must be at least 1, got " + parsed);
+        }
+        return parsed;
+    }
+
+    private static int zipLevelProperty(String name, int defaultValue) {
+        String value = System.getProperty(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        int parsed = Integer.parseInt(value.trim());
+        if (parsed < 0 || parsed > 9) {
+            throw new IllegalArgumentException(name + " must be between 0 and 9, got " + parsed);
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,322 @@
+package com.codelm;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free counters and latency histograms per pipeline stage, printed by a periodic reporter thread.
+ * <p>
+ * Workers time a stage with {@code long start = System.nanoTime()} and hand the start to {@link #record(Stage, long)},
+ * or time a whole file with a {@link FileTimer}. Recording only increments {@link LongAdder}s, so workers never take a
+ * lock or print. Histograms are log-linear with four buckets per power of two, so reported percentiles are upper bounds
+ * within 25% of the true value. The {@link Reporter} diffs the histograms between reports and prints the throughput,
+ * mean and p50/p99 of every stage over the last interval, every {@value #INTERVAL_PROPERTY} seconds (default 10, 0 for
+ * the final summary only).
+ * <p>
+ * Files slower than a threshold are also recorded as {@link SlowFileEvent}s when a JFR recording is running.
+ */
+public final class PipelineMetrics {
+    public static final String INTERVAL_PROPERTY = "codelm.metricsInterval";
+
+    public enum Stage {
+        READ, GARBAGE_FILTER, DEDUPLICATE, CLEAN, FORMAT, VALIDATE, ANALYZE, COMPRESS, ENCODE, WRITE
+    }
+
+    // Values below 4 ns get a bucket each, above that 4 buckets per power of two up to 2^63
+    private static final int BUCKETS = 64 * 4;
+
+    private static final class StageMetrics {
+        final LongAdder count = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+        final LongAdder[] buckets = new LongAdder[BUCKETS];
+
+        StageMetrics() {
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+    }
+
+    private static final StageMetrics[] STAGES = new StageMetrics[Stage.values().length];
+    private static final LongAdder FILES = new LongAdder();
+    private static final LongAdder KEPT_FILES = new LongAdder();
+    private static final LongAdder ZIPS = new LongAdder();
+    private static volatile long expectedFiles;
+    private static volatile long expectedZips;
+
+    static {
+        for (int i = 0; i < STAGES.length; i++) {
+            STAGES[i] = new StageMetrics();
+        }
+    }
+
+    private PipelineMetrics() {
+    }
+
+    /**
+     * Records one pass through a stage that began at {@code startNanos}, a {@link System#nanoTime()} value.
+     *
+     * @return The end time, to be used as the start of the next stage.
+     */
+    public static long record(Stage stage, long startNanos) {
+        long end = System.nanoTime();
+        recordNanos(stage, end - startNanos);
+        return end;
+    }
+
+    public static void recordNanos(Stage stage, long nanos) {
+        StageMetrics metrics = STAGES[stage.ordinal()];
+        metrics.count.increment();
+        metrics.nanos.add(nanos);
+        metrics.buckets[bucket(nanos)].increment();
+    }
+
+    /**
+     * Counts a file leaving the pipeline.
+     *
+     * @param kept False if it was dropped as garbage, duplicate or unparsable.
+     */
+    public static void fileDone(boolean kept) {
+        FILES.increment();
+        if (kept) {
+            KEPT_FILES.increment();
+        }
+    }
+
+    public static void zipDone() {
+        ZIPS.increment();
+    }
+
+    /**
+     * Totals the reporter shows progress and an ETA against, 0 if unknown.
+     */
+    public static void expect(long files, long zips) {
+        expectedFiles = files;
+        expectedZips = zips;
+    }
+
+    /**
+     * Times the stages of one file on the calling thread. Laps of the same stage add up, every stage is recorded
+     * once per file by {@link #finish(String, boolean)}, which also counts the file and emits the
+     * {@link SlowFileEvent} if it was slow enough.
+     */
+    public static final class FileTimer {
+        private final SlowFileEvent event = new SlowFileEvent();
+        private final long[] stageNanos = new long[STAGES.length];
+        private int stagesRun; // Bit per stage
+        private long last;
+
+        /**
+         * @param pipeline Name of the pipeline in the JFR event.
+         */
+        public FileTimer(String pipeline, String fileName, long bytes) {
+            event.pipeline = pipeline;
+            event.fileName = fileName;
+            event.bytes = bytes;
+            event.begin();
+            last = System.nanoTime();
+        }
+
+        /**
+         * Attributes the time since the previous lap to a stage.
+         */
+        public void lap(Stage stage) {
+            long now = System.nanoTime();
+            stageNanos[stage.ordinal()] += now - last;
+            stagesRun |= 1 << stage.ordinal();
+            last = now;
+        }
+
+        /**
+         * @param outcome Outcome in the JFR event.
+         * @param kept    False if the file was dropped.
+         */
+        public void finish(String outcome, boolean kept) {
+            Stage slowest = null;
+            for (Stage stage : Stage.values()) {
+                if ((stagesRun & (1 << stage.ordinal())) != 0) {
+                    recordNanos(stage, stageNanos[stage.ordinal()]);
+                    if (slowest == null || stageNanos[stage.ordinal()] > stageNanos[slowest.ordinal()]) {
+                        slowest = stage;
+                    }
+                }
+            }
+            fileDone(kept);
+
+            event.end();
+            if (event.shouldCommit()) {
+                event.outcome = outcome;
+                event.slowestStage = slowest != null ? slowest.name().toLowerCase() : null;
+                event.commit();
+            }
+        }
+    }
+
+    static int bucket(long nanos) {
+        if (nanos < 4) {
+            return (int) Math.max(nanos, 0);
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        int sub = (int) (nanos >>> (exponent - 2)) & 3;
+        return exponent * 4 + sub;
+    }
+
+    // Largest value falling into the bucket
+    static long bucketUpperBound(int bucket) {
+        if (bucket < 4) {
+            return bucket;
+        }
+        int exponent = bucket / 4;
+        long sub = bucket % 4;
+        return ((5 + sub) << (exponent - 2)) - 1;
+    }
+
+    /**
+     * Starts a daemon thread printing the metrics to stdout every {@value #INTERVAL_PROPERTY} seconds.
+     * Closing the reporter stops it and prints a summary of the whole run.
+     */
+    public static Reporter startReporter() {
+        Reporter reporter = new Reporter(System.out, Long.getLong(INTERVAL_PROPERTY, 10));
+        reporter.start();
+        return reporter;
+    }
+
+    public static final class Reporter implements AutoCloseable {
+        private final PrintStream out;
+        private final long intervalSeconds;
+        private final long startNanos = System.nanoTime();
+        private final Thread thread;
+
+        // Snapshot of the previous report, only touched by the reporter thread until it is joined
+        private final long[][] lastBuckets = new long[STAGES.length][BUCKETS];
+        private final long[] lastCounts = new long[STAGES.length];
+        private final long[] lastNanos = new long[STAGES.length];
+        private long lastFiles;
+        private long lastReportNanos = startNanos;
+
+        private Reporter(PrintStream out, long intervalSeconds) {
+            this.out = out;
+            this.intervalSeconds = intervalSeconds;
+            this.thread = new Thread(this::run, "pipeline-metrics");
+            this.thread.setDaemon(true);
+        }
+
+        private void start() {
+            if (intervalSeconds > 0) {
+                thread.start();
+            }
+        }
+
+        private void run() {
+            try {
+                while (true) {
+                    TimeUnit.SECONDS.sleep(intervalSeconds);
+                    report(false);
+                }
+            } catch (InterruptedException e) {
+                // Closed
+            }
+        }
+
+        @Override
+        public void close() {
+            if (thread.isAlive()) {
+                thread.interrupt();
+                try {
+                    thread.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            report(true);
+        }
+
+        private void report(boolean whole) {
+            long now = System.nanoTime();
+            long files = FILES.sum();
+            long zips = ZIPS.sum();
+            double seconds = (now - (whole ? startNanos : lastReportNanos)) / 1e9;
+            long elapsedMillis = (now - startNanos) / 1_000_000;
+
+            StringBuilder report = new StringBuilder();
+            report.append(whole ? "Pipeline summary after " : "Pipeline after ").append(formatDuration(elapsedMillis))
+                    .append(": ").append(files).append(expectedFiles > 0 ? "/" + expectedFiles : "")
+                    .append(" files (").append(KEPT_FILES.sum()).append(" kept, ")
+                    .append(String.format("%.1f", (whole ? files : files - lastFiles) / seconds)).append("/s), ")
+                    .append(zips).append(expectedZips > 0 ? "/" + expectedZips : "").append(" zips");
+            long remainingMillis = remainingMillis(files, zips, elapsedMillis);
+            if (!whole && remainingMillis >= 0) {
+                report.append(", ETA ").append(formatDuration(remainingMillis));
+            }
+            report.append('\n');
+            report.append(String.format("  %-15s %12s %10s %10s %10s %10s%n", "stage", "count", "per s", "mean ms", "p50 ms", "p99 ms"));
+
+            for (Stage stage : Stage.values()) {
+                StageMetrics metrics = STAGES[stage.ordinal()];
+                long[] counts = new long[BUCKETS];
+                for (int i = 0; i < BUCKETS; i++) {
+                    counts[i] = metrics.buckets[i].sum();
+                }
+                long total = metrics.count.sum();
+                long totalNanos = metrics.nanos.sum();
+                long[] interval = counts.clone();
+                long intervalCount = total;
+                long intervalNanos = totalNanos;
+                if (!whole) {
+                    int index = stage.ordinal();
+                    for (int i = 0; i < BUCKETS; i++) {
+                        interval[i] -= lastBuckets[index][i];
+                    }
+                    intervalCount -= lastCounts[index];
+                    intervalNanos -= lastNanos[index];
+                    lastBuckets[index] = counts;
+                    lastCounts[index] = total;
+                    lastNanos[index] = totalNanos;
+                }
+                if (total == 0) {
+                    continue;
+                }
+                report.append(String.format("  %-15s %12d %10.1f %10.3f %10.3f %10.3f%n", stage.name().toLowerCase(),
+                        total, intervalCount / seconds, intervalCount > 0 ? intervalNanos / 1e6 / intervalCount : 0.0,
+                        percentile(interval, intervalCount, 0.50) / 1e6, percentile(interval, intervalCount, 0.99) / 1e6));
+            }
+
+            lastFiles = files;
+            lastReportNanos = now;
+            out.print(report);
+            out.flush();
+        }
+
+        private static long percentile(long[] buckets, long count, double quantile) {
+            if (count <= 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(quantile * count);
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= rank) {
+                    return bucketUpperBound(i);
+                }
+            }
+            return bucketUpperBound(buckets.length - 1);
+        }
+
+        private static long remainingMillis(long files, long zips, long elapsedMillis) {
+            if (expectedFiles > 0 && files > 0) {
+                return elapsedMillis * (expectedFiles - files) / files;
+            }
+            if (expectedZips > 0 && zips > 0) {
+                return elapsedMillis * (expectedZips - zips) / zips;
+            }
+            return -1;
+        }
+
+        private static String formatDuration(long millis) {
+            Duration duration = Duration.ofMillis(millis);
+            return String.format("%02d:%02d:%02d", duration.toHours(), duration.toMinutesPart(), duration.toSecondsPart());
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.codelm;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+
+/**
+ * Record of the input zips a {@link ParsingText} run has fully processed, so a rerun can skip them.
+ * <p>
+ * The manifest is an append-only file with one tab separated line per finished zip: name, size, modification time,
+ * SHA-256 of the content and output name. A line is only appended once the output (cleaned zip or corpus shard) and
+ * the checkpoint of the zip (its token stats and identifier/literal counts) are complete on disk, so a run killed at
+ * any point leaves the manifest describing finished work only. Later lines replace earlier ones for the same zip,
+ * and a line cut short by a crash is ignored.
+ * <p>
+ * A zip counts as done if its size and modification time match, or if only the time changed and the content hash
+ * still matches. The hash is only computed in that case and when recording.
+ */
+public class RunManifest {
+    private static final String STATS_FILE = "token_stats.properties";
+    private static final String IDENTIFIERS_FILE = "identifiers_count.txt";
+    private static final String LITERALS_FILE = "literals_count.txt";
+
+    private record Entry(String zipName, long size, long modifiedMillis, String sha256, String outputName) {
+        String toLine() {
+            return zipName + "\t" + size + "\t" + modifiedMillis + "\t" + sha256 + "\t" + outputName + "\n";
+        }
+
+        static Entry parse(String line) {
+            String[] fields = line.split("\t");
+            if (fields.length != 5 || fields[3].length() != 64) {
+                return null;
+            }
+            try {
+                return new Entry(fields[0], Long.parseLong(fields[1]), Long.parseLong(fields[2]), fields[3], fields[4]);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Per-zip results kept next to the manifest.
+     */
+    public record Checkpoint(CumulativeTokenStats stats, FrequencyIndex identifierCounts,
+                             FrequencyIndex literalCounts) {
+    }
+
+    private final Path manifestPath;
+    private final Path checkpointDir;
+    private final Path outputDir;
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    private RunManifest(Path manifestPath, Path checkpointDir, Path outputDir) {
+        this.manifestPath = manifestPath;
+        this.checkpointDir = checkpointDir;
+        this.outputDir = outputDir;
+    }
+
+    /**
+     * @param manifestPath  Manifest file, created if missing.
+     * @param checkpointDir Directory of the per-zip checkpoints.
+     * @param outputDir     Directory of the outputs.
+     * @param resume        False to forget earlier runs and process every zip again.
+     */
+    public static RunManifest open(Path manifestPath, Path checkpointDir, Path outputDir, boolean resume)
+            throws IOException {
+        RunManifest manifest = new RunManifest(manifestPath, checkpointDir, outputDir);
+        Files.createDirectories(checkpointDir);
+        if (!resume || !Files.exists(manifestPath)) {
+            Files.writeString(manifestPath, "");
+            return manifest;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(manifestPath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Entry entry = Entry.parse(line);
+                if (entry != null) {
+                    manifest.entries.put(entry.zipName(), entry);
+                }
+            }
+        }
+        // Terminates a line cut short by a crash, so the next one is not appended to it
+        try (FileChannel channel = FileChannel.open(manifestPath, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer last = ByteBuffer.allocate(1);
+            if (channel.size() > 0 && channel.read(last, channel.size() - 1) == 1 && last.get(0) != '\n') {
+                channel.write(ByteBuffer.wrap(new byte[]{'\n'}), channel.size());
+            }
+        }
+        return manifest;
+    }
+
+    /**
+     * @return True if the zip was processed by an earlier run and neither it nor the results changed since.
+     */
+    public boolean isDone(Path zipPath) throws IOException {
+        String zipName = zipPath.getFileName().toString();
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(zipName);
+        }
+        if (entry == null || !Files.exists(outputDir.resolve(entry.outputName()))
+                || !Files.exists(checkpointDir(zipName).resolve(STATS_FILE))) {
+            return false;
+        }
+
+        if (Files.size(zipPath) != entry.size()) {
+            return false;
+        }
+        long modifiedMillis = Files.getLastModifiedTime(zipPath).toMillis();
+        if (modifiedMillis == entry.modifiedMillis()) {
+            return true;
+        }
+        if (!sha256(zipPath).equals(entry.sha256())) {
+            return false;
+        }
+        // Touched but unchanged, remember the new time so the next run does not hash it again
+        append(new Entry(zipName, entry.size(), modifiedMillis, entry.sha256(), entry.outputName()));
+        return true;
+    }
+
+    /**
+     * Saves the results of a processed zip, then records it as done.
+     * Must only be called once its output is complete.
+     */
+    public void recordDone(Path zipPath, Path outputZipPath, Checkpoint checkpoint) throws IOException {
+        String zipName = zipPath.getFileName().toString();
+        Path dir = checkpointDir(zipName);
+        Files.createDirectories(dir);
+        checkpoint.identifierCounts().writeSorted(dir.resolve(IDENTIFIERS_FILE));
+        checkpoint.literalCounts().writeSorted(dir.resolve(LITERALS_FILE));
+        // Written last, its presence marks a complete checkpoint
+        checkpoint.stats().save(dir.resolve(STATS_FILE));
+
+        append(new Entry(zipName, Files.size(zipPath), Files.getLastModifiedTime(zipPath).toMillis(),
+                sha256(zipPath), outputZipPath.getFileName().toString()));
+    }
+
+    /**
+     * Loads the results saved for a zip by {@link #recordDone(Path, Path, Checkpoint)}.
+     */
+    public Checkpoint loadCheckpoint(Path zipPath) throws IOException {
+        Path dir = checkpointDir(zipPath.getFileName().toString());
+        return new Checkpoint(CumulativeTokenStats.load(dir.resolve(STATS_FILE)),
+                FrequencyIndex.readSorted(dir.resolve(IDENTIFIERS_FILE)),
+                FrequencyIndex.readSorted(dir.resolve(LITERALS_FILE)));
+    }
+
+    /**
+     * @return Output recorded for a zip that {@link #isDone(Path)}.
+     */
+    public synchronized Path outputOf(Path zipPath) {
+        return outputDir.resolve(entries.get(zipPath.getFileName().toString()).outputName());
+    }
+
+    private Path checkpointDir(String zipName) {
+        return checkpointDir.resolve(zipName);
+    }
+
+    private synchronized void append(Entry entry) throws IOException {
+        try (FileChannel channel = FileChannel.open(manifestPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(StandardCharsets.UTF_8.encode(entry.toLine()));
+            channel.force(true);
+        }
+        entries.put(entry.zipName(), entry);
+    }
+
+    private static String sha256(Path path) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        byte[] buffer = new byte[1 << 16];
+        try (InputStream in = Files.newInputStream(path)) {
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
@@ -0,0 +1,44 @@
+package com.codelm;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event spanning the processing of one file, only recorded for files taking longer than the threshold.
+ * <p>
+ * Recorded when the JVM runs a flight recording, e.g. {@code -XX:StartFlightRecording:filename=run.jfr}. The
+ * threshold defaults to 1 s and can be changed per recording with
+ * {@code -XX:StartFlightRecording:+com.codelm.SlowFile#threshold=200ms} (JDK 17+) or a custom {@code .jfc} file.
+ * Without a recording, {@link #begin()} and {@link #commit()} cost next to nothing.
+ */
+@Name("com.codelm.SlowFile")
+@Label("Slow File")
+@Category({"CodeLM", "Pipeline"})
+@Description("A file that took longer than the threshold to go through the pipeline")
+@Threshold("1 s")
+@StackTrace(false)
+public class SlowFileEvent extends Event {
+    @Label("File")
+    String fileName;
+
+    @Label("Size")
+    @DataAmount
+    long bytes;
+
+    @Label("Pipeline")
+    @Description("preprocess or encode")
+    String pipeline;
+
+    @Label("Outcome")
+    @Description("kept, garbage, duplicate, unparsable or failed")
+    String outcome;
+
+    @Label("Slowest Stage")
+    String slowestStage;
+}
@@ -1,9 +1,11 @@
 package com.codelm;
 
+import com.codelm.antlr.JavaLexer;
 import com.github.javaparser.JavaToken;
 import com.github.javaparser.StaticJavaParser;
 import com.github.javaparser.TokenRange;
 import com.github.javaparser.ast.CompilationUnit;
+import org.antlr.v4.runtime.Token;
 
 import java.io.BufferedWriter;
 import java.io.File;
@@ -16,23 +18,41 @@ import java.nio.file.StandardOpenOption;
 import java.util.*;
 
 public class TokenAnalyzer {
+    // JavaParser category of every JavaLexer token type, whitespace is split into chars instead
+    private static final JavaToken.Category[] ANTLR_CATEGORIES = antlrCategories();
+
     public static class TokenStats {
         public long totalTokens;
-        public Map<String, Integer> tokenTypeCounts;
+        // Indexed by JavaToken.Category ordinal
+        public int[] categoryCounts;
         public long totalLiteralChars;
         public int maxLiteralChars;
         public int stringLiteralCount;
-        public List<String> literalValues;
         public long totalIdentifierChars;
         public int maxIdentifierChars;
-        public List<String> identifierValues;
         public long totalBytes;
         public long totalLiteralBytes;
         public long totalIdentifierBytes;
     }
 
     public static TokenStats analyze(String javaCode) throws IOException {
-        CompilationUnit cu = StaticJavaParser.parse(javaCode);
+        return analyze(StaticJavaParser.parse(javaCode));
+    }
+
+    /**
+     * Token statistics of an already parsed file. The tokens are those of the source the unit was parsed from.
+     */
+    public static TokenStats analyze(CompilationUnit cu) {
+        return analyze(cu, null, null);
+    }
+
+    /**
+     * Like {@link #analyze(CompilationUnit)}, also counting every identifier and string literal occurrence.
+     *
+     * @param identifierCounts Index receiving the identifiers, or null.
+     * @param literalCounts    Index receiving the string literals, or null.
+     */
+    public static TokenStats analyze(CompilationUnit cu, FrequencyIndex identifierCounts, FrequencyIndex literalCounts) {
         Optional<TokenRange> tokenRange = cu.getTokenRange();
         if (tokenRange.isEmpty()) {
             System.out.println("No tokens found");
@@ -42,7 +62,7 @@ public class TokenAnalyzer {
         TokenStats stats = new TokenStats();
 
         stats.totalTokens = 0;
-        stats.tokenTypeCounts = new HashMap<>();
+        stats.categoryCounts = new int[JavaToken.Category.values().length];
 
         // Literal/Identifier stats
         stats.totalLiteralChars = 0;
@@ -55,16 +75,13 @@ public class TokenAnalyzer {
         stats.totalLiteralBytes = 0;
         stats.totalIdentifierBytes = 0;
 
-        stats.literalValues = new ArrayList<>();
-        stats.identifierValues = new ArrayList<>();
-
         Optional<JavaToken> optionalToken = Optional.of(tokenRange.get().getBegin());
 
         while (optionalToken.isPresent()) {
             JavaToken token = optionalToken.get();
             stats.totalTokens++;
-            String category = token.getCategory().toString();
-            stats.tokenTypeCounts.put(category, stats.tokenTypeCounts.getOrDefault(category, 0) + 1);
+            JavaToken.Category category = token.getCategory();
+            stats.categoryCounts[category.ordinal()]++;
 
             // If token is literal/identifier, get the value - length of the string and increment the token count by the length
             // Add a counter for #bytes for literals and identifiers
@@ -73,16 +90,20 @@ public class TokenAnalyzer {
             int byteLength = text.getBytes(StandardCharsets.UTF_8).length;
             stats.totalBytes += byteLength;
 
-            if (category.equals("LITERAL") && token.getKind() == JavaToken.Kind.STRING_LITERAL.getKind()) {
+            if (category == JavaToken.Category.LITERAL && token.getKind() == JavaToken.Kind.STRING_LITERAL.getKind()) {
                 stats.stringLiteralCount++;
-                stats.literalValues.add(text);
+                if (literalCounts != null) {
+                    literalCounts.add(text);
+                }
                 stats.totalLiteralChars += charLength;
                 stats.totalLiteralBytes += byteLength;
                 if (charLength > stats.maxLiteralChars) {
                     stats.maxLiteralChars = charLength;
                 }
-            } else if (category.equals("IDENTIFIER")) {
-                stats.identifierValues.add(text);
+            } else if (category == JavaToken.Category.IDENTIFIER) {
+                if (identifierCounts != null) {
+                    identifierCounts.add(text);
+                }
                 stats.totalIdentifierChars += charLength;
                 stats.totalIdentifierBytes += byteLength;
                 if (charLength > stats.maxIdentifierChars) {
@@ -96,22 +117,184 @@ public class TokenAnalyzer {
         return stats;
     }
 
+    /**
+     * Token statistics from {@link JavaLexer} tokens, without parsing, e.g. for code printed by
+     * {@link TokenStreamCleaner}. Tokens are counted as JavaParser counts them, so stats of both kinds can be
+     * merged: whitespace is one token per char, {@code <<} is one token, {@code var}, {@code yield} and the module
+     * keywords are identifiers, so are {@code record}, {@code sealed} and {@code permits} outside declarations,
+     * and the end of the file is an empty whitespace token.
+     *
+     * @param identifierCounts Index receiving the identifiers, or null.
+     * @param literalCounts    Index receiving the string literals, or null.
+     */
+    public static TokenStats analyzeTokens(CharSequence javaCode, FrequencyIndex identifierCounts,
+                                           FrequencyIndex literalCounts) {
+        TokenStats stats = new TokenStats();
+        stats.categoryCounts = new int[JavaToken.Category.values().length];
+
+        int previousType = Token.INVALID_TYPE;
+        int previousEnd = -1;
+        // A contextual keyword, whether it is one depends on the tokens around it
+        int contextualType = Token.INVALID_TYPE;
+        int contextualStart = -1;
+        int contextualEnd = -1;
+        int beforeContextualType = Token.INVALID_TYPE;
+        try (LexerPool.Lease lease = LexerPool.scanner(javaCode, false)) {
+            JavaLexer lexer = lease.lexer();
+            Token token;
+            while ((token = lexer.nextToken()).getType() != Token.EOF) {
+                int type = token.getType();
+                int start = token.getStartIndex();
+                int end = token.getStopIndex() + 1;
+                if (type == JavaLexer.WS) {
+                    countWhitespace(stats, javaCode, start, end);
+                    continue;
+                }
+
+                if (contextualStart >= 0 && token.getChannel() == Token.DEFAULT_CHANNEL) {
+                    countToken(stats, javaCode, contextualStart, contextualEnd, contextualType,
+                            contextualCategory(contextualType, beforeContextualType, type), identifierCounts, literalCounts);
+                    contextualStart = -1;
+                }
+                if (type == JavaLexer.RECORD || type == JavaLexer.SEALED || type == JavaLexer.PERMITS) {
+                    contextualType = type;
+                    contextualStart = start;
+                    contextualEnd = end;
+                    beforeContextualType = previousType;
+                } else if (type == JavaLexer.LT && previousType == JavaLexer.LT && previousEnd == start) {
+                    // Second half of <<, only its byte is counted
+                    stats.totalBytes++;
+                    type = Token.INVALID_TYPE;
+                } else if (type < ANTLR_CATEGORIES.length && ANTLR_CATEGORIES[type] != null) {
+                    countToken(stats, javaCode, start, end, type, ANTLR_CATEGORIES[type], identifierCounts, literalCounts);
+                }
+                previousType = type;
+                previousEnd = end;
+            }
+        }
+        if (contextualStart >= 0) {
+            countToken(stats, javaCode, contextualStart, contextualEnd, contextualType,
+                    contextualCategory(contextualType, beforeContextualType, Token.EOF), identifierCounts, literalCounts);
+        }
+
+        // JavaParser's EOF token
+        stats.totalTokens++;
+        stats.categoryCounts[JavaToken.Category.WHITESPACE_NO_EOL.ordinal()]++;
+        return stats;
+    }
+
+    // record Name, sealed class, class Name permits Other: keywords, anything else is a variable or method name
+    private static JavaToken.Category contextualCategory(int type, int previousType, int nextType) {
+        boolean keyword = switch (type) {
+            case JavaLexer.RECORD -> nextType == JavaLexer.IDENTIFIER;
+            case JavaLexer.SEALED -> nextType == JavaLexer.CLASS || nextType == JavaLexer.INTERFACE
+                    || (nextType >= JavaLexer.ABSTRACT && nextType <= JavaLexer.NON_SEALED && nextType != JavaLexer.VAR
+                    && nextType != JavaLexer.YIELD && nextType != JavaLexer.RECORD);
+            default -> (previousType == JavaLexer.IDENTIFIER || previousType == JavaLexer.GT)
+                    && nextType == JavaLexer.IDENTIFIER;
+        };
+        return keyword ? JavaToken.Category.KEYWORD : JavaToken.Category.IDENTIFIER;
+    }
+
+    private static void countWhitespace(TokenStats stats, CharSequence javaCode, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = javaCode.charAt(i);
+            JavaToken.Category category = c == '\n' || c == '\r'
+                    ? JavaToken.Category.EOL : JavaToken.Category.WHITESPACE_NO_EOL;
+            // \r\n is a single token
+            if (c == '\r' && i + 1 < end && javaCode.charAt(i + 1) == '\n') {
+                i++;
+                stats.totalBytes++;
+            }
+            stats.totalTokens++;
+            stats.categoryCounts[category.ordinal()]++;
+            stats.totalBytes++;
+        }
+    }
+
+    private static void countToken(TokenStats stats, CharSequence javaCode, int start, int end, int type,
+                                   JavaToken.Category category, FrequencyIndex identifierCounts,
+                                   FrequencyIndex literalCounts) {
+        stats.totalTokens++;
+        stats.categoryCounts[category.ordinal()]++;
+        int charLength = end - start;
+        int byteLength = utf8Length(javaCode, start, end);
+        stats.totalBytes += byteLength;
+
+        if (type == JavaLexer.STRING_LITERAL) {
+            stats.stringLiteralCount++;
+            if (literalCounts != null) {
+                literalCounts.add(javaCode.subSequence(start, end).toString());
+            }
+            stats.totalLiteralChars += charLength;
+            stats.totalLiteralBytes += byteLength;
+            stats.maxLiteralChars = Math.max(stats.maxLiteralChars, charLength);
+        } else if (category == JavaToken.Category.IDENTIFIER) {
+            if (identifierCounts != null) {
+                identifierCounts.add(javaCode.subSequence(start, end).toString());
+            }
+            stats.totalIdentifierChars += charLength;
+            stats.totalIdentifierBytes += byteLength;
+            stats.maxIdentifierChars = Math.max(stats.maxIdentifierChars, charLength);
+        }
+    }
+
+    private static JavaToken.Category[] antlrCategories() {
+        JavaToken.Category[] categories = new JavaToken.Category[JavaLexer.VOCABULARY.getMaxTokenType() + 1];
+        for (int type = JavaLexer.ABSTRACT; type <= JavaLexer.NON_SEALED; type++) {
+            categories[type] = JavaToken.Category.KEYWORD;
+        }
+        // Only keywords in module declarations
+        for (int type = JavaLexer.MODULE; type <= JavaLexer.TRANSITIVE; type++) {
+            categories[type] = JavaToken.Category.IDENTIFIER;
+        }
+        categories[JavaLexer.VAR] = JavaToken.Category.IDENTIFIER;
+        categories[JavaLexer.YIELD] = JavaToken.Category.IDENTIFIER;
+        for (int type = JavaLexer.DECIMAL_LITERAL; type <= JavaLexer.NULL_LITERAL; type++) {
+            categories[type] = JavaToken.Category.LITERAL;
+        }
+        for (int type = JavaLexer.LPAREN; type <= JavaLexer.DOT; type++) {
+            categories[type] = JavaToken.Category.SEPARATOR;
+        }
+        for (int type = JavaLexer.ASSIGN; type <= JavaLexer.ARROW; type++) {
+            categories[type] = JavaToken.Category.OPERATOR;
+        }
+        categories[JavaLexer.COLONCOLON] = JavaToken.Category.SEPARATOR;
+        categories[JavaLexer.AT] = JavaToken.Category.SEPARATOR;
+        categories[JavaLexer.ELLIPSIS] = JavaToken.Category.SEPARATOR;
+        categories[JavaLexer.COMMENT] = JavaToken.Category.COMMENT;
+        categories[JavaLexer.LINE_COMMENT] = JavaToken.Category.COMMENT;
+        categories[JavaLexer.IDENTIFIER] = JavaToken.Category.IDENTIFIER;
+        return categories;
+    }
+
+    private static int utf8Length(CharSequence text, int start, int end) {
+        int length = end - start;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c >= 0x80) {
+                // Surrogate pairs are 4 bytes, 2 per char
+                length += c < 0x800 || Character.isSurrogate(c) ? 1 : 2;
+            }
+        }
+        return length;
+    }
+
     public static void main(String[] args) {
         try {
             //String javaCode = "public class Example { int x = 10; }";
             String path = "src/main/java/com/codelm/taxi/CleanTaxiRestService.java";
             String javaCode = Files.readString(Paths.get(path));
-            TokenStats stats = analyze(javaCode);
+            FrequencyIndex identifierCounts = new FrequencyIndex();
+            FrequencyIndex literalCounts = new FrequencyIndex();
+            TokenStats stats = analyze(StaticJavaParser.parse(javaCode), identifierCounts, literalCounts);
 
             if (stats == null) {
                 return;
             }
 
-            String literalsLog = "src/main/java/com/codelm/logs/literals.log";
-            Files.write(Paths.get(literalsLog), stats.literalValues, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
-
-            String identifierLog = "src/main/java/com/codelm/logs/identifiers.log";
-            Files.write(Paths.get(identifierLog), stats.identifierValues, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+            literalCounts.writeSorted(Paths.get("src/main/java/com/codelm/logs/literals_count.txt"));
+            identifierCounts.writeSorted(Paths.get("src/main/java/com/codelm/logs/identifiers_count.txt"));
         } catch (IOException e) {
             System.err.println("Error reading the file: " + e.getMessage());
         }
@@ -0,0 +1,147 @@
+package com.codelm;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Decoding engine shared by all decode entry points of {@link ModelTokenCodec}, built once per codec.
+ * <p>
+ * Every ID is resolved up front into a kind byte and the text it decodes to, with the placeholder text of
+ * literal tokens already substituted, so decoding is a table lookup and an append per token.
+ * Output goes to any {@link Appendable} ({@link StringBuilder}, {@link java.nio.CharBuffer}, a writer...),
+ * StringBuilders are appended to in place. The decoded part is trimmed like {@link String#trim()}.
+ */
+final class TokenDecoder {
+    private static final byte KIND_TOKEN = 0; // Writes its fragment
+    private static final byte KIND_NEWLINE = 1;
+    private static final byte KIND_IDENTIFIER = 2; // Marker before a spelled out identifier
+    private static final byte KIND_CHAR = 3; // Single character token, part of an identifier after the marker
+
+    private static final String UNKNOWN_ID = "<?>";
+
+    private final byte[] kinds;
+    // Text of the token outside an identifier, including the space that follows it
+    private final String[] fragments;
+    // Text of KIND_CHAR tokens inside an identifier
+    private final String[] values;
+
+    /**
+     * @param decodingTable  Codec vocabulary indexed by ID.
+     * @param newlineId      ID of the newline token.
+     * @param identifierId   ID of the identifier marker token.
+     * @param placeholderIds IDs and the placeholder text they decode to, e.g. literals whose value was dropped.
+     */
+    TokenDecoder(List<ModelTokenCodec.ModelToken> decodingTable, short newlineId, short identifierId,
+                 short[] placeholderIds, String[] placeholders) {
+        int size = decodingTable.size();
+        this.kinds = new byte[size];
+        this.fragments = new String[size];
+        this.values = new String[size];
+
+        for (int id = 0; id < size; id++) {
+            ModelTokenCodec.ModelToken token = decodingTable.get(id);
+            values[id] = token.value;
+            fragments[id] = token.value + " ";
+            if (id == newlineId) {
+                kinds[id] = KIND_NEWLINE;
+            } else if (id == identifierId) {
+                kinds[id] = KIND_IDENTIFIER;
+            } else if (token.key.length() == 1) {
+                kinds[id] = KIND_CHAR;
+            } else {
+                kinds[id] = KIND_TOKEN;
+            }
+        }
+        for (int i = 0; i < placeholderIds.length; i++) {
+            fragments[placeholderIds[i]] = placeholders[i];
+        }
+    }
+
+    /**
+     * Decodes model token IDs.
+     */
+    void decode(short[] ids, int offset, int length, Appendable out) throws IOException {
+        Output output = new Output(out);
+        for (int i = offset; i < offset + length; i++) {
+            output.token(ids[i]);
+        }
+        output.finish();
+    }
+
+    /**
+     * Decodes a PUA string, skipping the literal line breaks that follow newline tokens.
+     */
+    void decodePua(CharSequence unicodeString, Appendable out) throws IOException {
+        Output output = new Output(out);
+        for (int i = 0; i < unicodeString.length(); i++) {
+            char puaChar = unicodeString.charAt(i);
+            if (puaChar != '\n') {
+                output.token(puaChar - ModelTokenCodec.PUA_START);
+            }
+        }
+        output.finish();
+    }
+
+    // State of one decode call. Fragments are appended to a StringBuilder, the caller's own if it is one,
+    // and the decoded part is trimmed at the end.
+    private final class Output {
+        private final Appendable out;
+        private final StringBuilder sb;
+        private final int outputStart;
+        private boolean inIdentifier;
+
+        Output(Appendable out) {
+            this.out = out;
+            this.sb = out instanceof StringBuilder builder ? builder : new StringBuilder();
+            this.outputStart = sb.length();
+        }
+
+        void token(int id) {
+            if (id < 0 || id >= kinds.length) {
+                sb.append(UNKNOWN_ID);
+                inIdentifier = false;
+                return;
+            }
+
+            switch (kinds[id]) {
+                case KIND_NEWLINE -> {
+                    sb.append('\n');
+                    inIdentifier = false;
+                }
+                case KIND_IDENTIFIER -> {
+                    if (inIdentifier) {
+                        sb.append(' '); // Space between adjacent identifiers
+                    }
+                    inIdentifier = true;
+                }
+                case KIND_CHAR -> sb.append(inIdentifier ? values[id] : fragments[id]);
+                default -> {
+                    if (inIdentifier) {
+                        sb.append(' '); // The identifier has ended
+                        inIdentifier = false;
+                    }
+                    sb.append(fragments[id]);
+                }
+            }
+        }
+
+        void finish() throws IOException {
+            // Same as String.trim() on the decoded part only
+            int end = sb.length();
+            while (end > outputStart && sb.charAt(end - 1) <= ' ') {
+                end--;
+            }
+            int start = outputStart;
+            while (start < end && sb.charAt(start) <= ' ') {
+                start++;
+            }
+
+            if (sb == out) {
+                sb.setLength(end);
+                sb.delete(outputStart, start);
+            } else {
+                out.append(sb, start, end);
+            }
+        }
+    }
+}
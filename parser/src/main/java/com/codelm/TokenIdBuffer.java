@@ -0,0 +1,80 @@
+package com.codelm;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Growable, reusable buffer of model token IDs. Callers keep one per thread and {@link #clear()} it
+ * between files so encoding a file does not allocate per token.
+ */
+public class TokenIdBuffer {
+    private short[] ids;
+    private int size;
+
+    public TokenIdBuffer() {
+        this(1024);
+    }
+
+    public TokenIdBuffer(int initialCapacity) {
+        this.ids = new short[Math.max(initialCapacity, 16)];
+    }
+
+    public void add(short id) {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        ids[size++] = id;
+    }
+
+    public short get(int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return ids[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * @return The backing array, only the first {@link #size()} entries are valid. Not a copy.
+     */
+    public short[] array() {
+        return ids;
+    }
+
+    public short[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    /**
+     * Writes the compact binary frame: a 4-byte big-endian ID count followed by one big-endian uint16 per ID.
+     */
+    public void writeFrame(DataOutput out) throws IOException {
+        out.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            out.writeShort(ids[i]);
+        }
+    }
+
+    /**
+     * Replaces the contents with the IDs of a frame written by {@link #writeFrame(DataOutput)}.
+     */
+    public void readFrame(DataInput in) throws IOException {
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("Invalid ID frame length: " + count);
+        }
+        clear();
+        for (int i = 0; i < count; i++) {
+            add(in.readShort());
+        }
+    }
+}
@@ -0,0 +1,418 @@
+package com.codelm;
+
+import com.codelm.antlr.JavaLexer;
+import org.antlr.v4.runtime.Token;
+
+import java.util.Arrays;
+
+/**
+ * Lexer-only alternative to {@link Parser#cleanJavaCode(String)} followed by {@link Parser#formatJavaCode(String)}.
+ * <p>
+ * One pass of {@link JavaLexer} over the file drops comments, whitespace and annotations ({@code @interface}
+ * declarations stay) and prints the remaining tokens one statement per line without indentation, the form the
+ * codec reads: a line ends after a {@code ;} outside parentheses, after the {@code {} of a block, after a block's
+ * {@code }} unless {@code else}, {@code catch}, {@code finally}, the {@code while} of a {@code do} or the rest of an
+ * expression follows, after a switch label, and before the body of an {@code if} or {@code else} without braces.
+ * Array initializers stay on their line. Tokens keep a single space where the source separated them, so the printed
+ * code lexes back to the same tokens.
+ * <p>
+ * The tokens are the source's. Like JavaParser's printer it drops trailing commas of array initializers and enum
+ * constants, unlike it it keeps C-style array declarations ({@code String s[]}) and redundant semicolons.
+ * <p>
+ * No AST is built, so the code is only checked lexically: unrecognized input and unbalanced brackets reject the
+ * file. A full parse of the result is left to callers wanting strict validation.
+ */
+public final class TokenStreamCleaner {
+    /**
+     * @param code         The normalized code.
+     * @param declaresType True if the code declares a class, interface, enum or record anywhere, the token-level
+     *                     equivalent of {@link GarbageFileFilter#isGarbage(com.github.javaparser.ast.CompilationUnit)}
+     *                     being false.
+     */
+    public record Cleaned(String code, boolean declaresType) {
+    }
+
+    // Chars of operators that would lex as a different operator or a comment when printed together
+    private static final String OPERATOR_CHARS = "+-*/%=<>!&|^~?:";
+
+    private TokenStreamCleaner() {
+    }
+
+    /**
+     * @return The cleaned code, or null if the file has characters the lexer does not recognize or unbalanced
+     * brackets.
+     */
+    public static Cleaned clean(String javaCode) {
+        String code = Parser.removePrefixLines(javaCode);
+        Printer printer = new Printer(code);
+        try (LexerPool.Lease lease = LexerPool.scanner(code, false)) {
+            JavaLexer lexer = lease.lexer();
+            int expectedStart = 0;
+            Token token;
+            while ((token = lexer.nextToken()).getType() != Token.EOF) {
+                if (token.getStartIndex() != expectedStart) {
+                    return null; // The lexer skipped input it could not match
+                }
+                expectedStart = token.getStopIndex() + 1;
+                if (token.getChannel() != Token.DEFAULT_CHANNEL) {
+                    printer.hidden();
+                } else if (!printer.token(token.getType(), token.getStartIndex(), expectedStart)) {
+                    return null;
+                }
+            }
+            if (token.getStartIndex() != expectedStart) {
+                return null;
+            }
+        }
+        return printer.finish();
+    }
+
+    // State of one file, the tokens it gets are only valid during the call
+    private static final class Printer {
+        private static final int NO_ANNOTATION = 0;
+        private static final int ANNOTATION_AT = 1; // After @, annotation or @interface
+        private static final int ANNOTATION_NAME = 2; // After a name part
+        private static final int ANNOTATION_DOT = 3; // After a dot in a qualified name
+        private static final int ANNOTATION_ARGUMENTS = 4; // Inside the parentheses
+
+        private final String source;
+        private final StringBuilder out;
+
+        private boolean lineStart = true;
+        private boolean gap; // Whitespace or comments since the last printed token
+        private boolean removed; // An annotation was dropped since the last printed token
+        private int lastType = Token.INVALID_TYPE;
+        private char lastChar;
+
+        // Open braces, each with the parenthesis depth it restores and whether it is a block or array initializer
+        private int[] braceParenDepths = new int[16];
+        private boolean[] braceBlocks = new boolean[16];
+        private boolean[] braceDoBodies = new boolean[16];
+        private int braces;
+        private int parenDepth; // Within the innermost brace
+        private int bracketDepth;
+
+        private boolean afterBlock; // A block just closed, the next token decides if the line ends
+        private boolean pendingComma; // Dropped if it trails an array initializer or enum constants
+        // if headers and else: a body without braces goes on its own line, loops keep it on theirs
+        private int controlHeaderBraces = -1; // Brace depth of the header being read, -1 if none
+        private boolean afterControlHeader;
+        private boolean afterElse;
+        private boolean afterDoBody;
+        private boolean inSwitchLabel;
+        private int labelTernaries;
+
+        private int annotation = NO_ANNOTATION;
+        private int annotationParens;
+        private boolean gapBeforeAnnotation;
+        private boolean pendingAt; // The @ of an @interface, printed with it
+
+        private boolean declaresType;
+        private boolean afterRecord;
+
+        Printer(String source) {
+            this.source = source;
+            this.out = new StringBuilder(source.length());
+        }
+
+        void hidden() {
+            if (annotation == NO_ANNOTATION) {
+                gap = true;
+            }
+        }
+
+        /**
+         * @return False if the brackets do not balance.
+         */
+        boolean token(int type, int start, int end) {
+            if (annotation != NO_ANNOTATION && skipAnnotation(type)) {
+                return true;
+            }
+            if (type == JavaLexer.AT) {
+                annotation = ANNOTATION_AT;
+                gapBeforeAnnotation = gap;
+                return true;
+            }
+
+            if (afterBlock) {
+                afterBlock = false;
+                switch (type) {
+                    case JavaLexer.ELSE, JavaLexer.CATCH, JavaLexer.FINALLY -> gap = true;
+                    case JavaLexer.WHILE -> {
+                        if (afterDoBody) {
+                            gap = true;
+                        } else {
+                            newline();
+                        }
+                    }
+                    // The block was part of an expression: lambda body, anonymous class, switch expression
+                    case JavaLexer.RPAREN, JavaLexer.COMMA, JavaLexer.SEMI, JavaLexer.DOT, JavaLexer.RBRACE -> {
+                    }
+                    default -> newline();
+                }
+            }
+
+            if (afterControlHeader || afterElse) {
+                if (type != JavaLexer.LBRACE && type != JavaLexer.SEMI && !(afterElse && type == JavaLexer.IF)) {
+                    newline();
+                }
+                afterControlHeader = false;
+                afterElse = false;
+            }
+            if (pendingComma) {
+                pendingComma = false;
+                if (type != JavaLexer.RBRACE && type != JavaLexer.SEMI) {
+                    boolean gapAfterComma = gap;
+                    boolean removedAfterComma = removed;
+                    printText(JavaLexer.COMMA, ",");
+                    gap = gapAfterComma;
+                    removed = removedAfterComma;
+                }
+            }
+            if (pendingAt) {
+                pendingAt = false;
+                printText(JavaLexer.AT, "@");
+            }
+            if (afterRecord) {
+                afterRecord = false;
+                declaresType |= type == JavaLexer.IDENTIFIER;
+            }
+
+            switch (type) {
+                case JavaLexer.LPAREN -> parenDepth++;
+                case JavaLexer.RPAREN -> {
+                    if (--parenDepth < 0) {
+                        return false;
+                    }
+                    if (parenDepth == 0 && controlHeaderBraces == braces) {
+                        print(type, start, end);
+                        controlHeaderBraces = -1;
+                        afterControlHeader = true;
+                        return true;
+                    }
+                }
+                case JavaLexer.IF -> {
+                    if (parenDepth == 0) {
+                        controlHeaderBraces = braces;
+                    }
+                }
+                case JavaLexer.ELSE -> {
+                    print(type, start, end);
+                    afterElse = true;
+                    return true;
+                }
+                case JavaLexer.LBRACK -> bracketDepth++;
+                case JavaLexer.RBRACK -> {
+                    if (--bracketDepth < 0) {
+                        return false;
+                    }
+                }
+                case JavaLexer.COMMA -> {
+                    pendingComma = true;
+                    gap = false;
+                    return true;
+                }
+                case JavaLexer.LBRACE -> {
+                    openBrace();
+                    return true;
+                }
+                case JavaLexer.RBRACE -> {
+                    return closeBrace();
+                }
+                case JavaLexer.SEMI -> {
+                    print(type, start, end);
+                    inSwitchLabel = false;
+                    if (parenDepth == 0) {
+                        newline();
+                    }
+                    return true;
+                }
+                case JavaLexer.CASE -> {
+                    inSwitchLabel = true;
+                    labelTernaries = 0;
+                }
+                case JavaLexer.DEFAULT -> {
+                    // Also an interface method modifier, ended by the method's ; or {
+                    inSwitchLabel = true;
+                    labelTernaries = 0;
+                }
+                case JavaLexer.QUESTION -> {
+                    if (inSwitchLabel) {
+                        labelTernaries++;
+                    }
+                }
+                case JavaLexer.COLON -> {
+                    if (inSwitchLabel && parenDepth == 0) {
+                        if (labelTernaries > 0) {
+                            labelTernaries--;
+                        } else {
+                            print(type, start, end);
+                            inSwitchLabel = false;
+                            newline();
+                            return true;
+                        }
+                    }
+                }
+                case JavaLexer.ARROW -> {
+                    if (parenDepth == 0) {
+                        inSwitchLabel = false;
+                    }
+                }
+                case JavaLexer.CLASS, JavaLexer.INTERFACE, JavaLexer.ENUM ->
+                        declaresType |= lastType != JavaLexer.DOT && lastType != JavaLexer.AT;
+                case JavaLexer.RECORD -> afterRecord = true;
+                default -> {
+                }
+            }
+            print(type, start, end);
+            return true;
+        }
+
+        /**
+         * @return True if the token belongs to an annotation and was dropped.
+         */
+        private boolean skipAnnotation(int type) {
+            switch (annotation) {
+                case ANNOTATION_AT -> {
+                    if (type == JavaLexer.INTERFACE) {
+                        // An annotation type declaration, printed as @interface
+                        annotation = NO_ANNOTATION;
+                        gap = gapBeforeAnnotation;
+                        pendingAt = true;
+                        return false;
+                    }
+                    annotation = ANNOTATION_NAME;
+                    return true;
+                }
+                case ANNOTATION_NAME -> {
+                    if (type == JavaLexer.DOT) {
+                        annotation = ANNOTATION_DOT;
+                        return true;
+                    }
+                    if (type == JavaLexer.LPAREN) {
+                        annotation = ANNOTATION_ARGUMENTS;
+                        annotationParens = 1;
+                        return true;
+                    }
+                    endAnnotation();
+                    return false;
+                }
+                case ANNOTATION_DOT -> {
+                    annotation = ANNOTATION_NAME;
+                    return true;
+                }
+                default -> {
+                    if (type == JavaLexer.LPAREN) {
+                        annotationParens++;
+                    } else if (type == JavaLexer.RPAREN && --annotationParens == 0) {
+                        endAnnotation();
+                    }
+                    return true;
+                }
+            }
+        }
+
+        // Whitespace after an annotation is dropped with it, e.g. List<@NonNull String> becomes List<String>
+        private void endAnnotation() {
+            annotation = NO_ANNOTATION;
+            gap = gapBeforeAnnotation;
+            removed = true;
+        }
+
+        private void openBrace() {
+            boolean initializer = lastType == JavaLexer.ASSIGN || lastType == JavaLexer.RBRACK
+                    || (braces > 0 && !braceBlocks[braces - 1]
+                    && (lastType == JavaLexer.LBRACE || lastType == JavaLexer.COMMA));
+            if (braces == braceBlocks.length) {
+                braceParenDepths = Arrays.copyOf(braceParenDepths, braces * 2);
+                braceBlocks = Arrays.copyOf(braceBlocks, braces * 2);
+                braceDoBodies = Arrays.copyOf(braceDoBodies, braces * 2);
+            }
+            braceParenDepths[braces] = parenDepth;
+            braceBlocks[braces] = !initializer;
+            braceDoBodies[braces] = lastType == JavaLexer.DO;
+            braces++;
+
+            printText(JavaLexer.LBRACE, "{");
+            inSwitchLabel = false;
+            if (!initializer) {
+                parenDepth = 0;
+                newline();
+            }
+        }
+
+        private boolean closeBrace() {
+            if (braces == 0 || parenDepth != (braceBlocks[braces - 1] ? 0 : braceParenDepths[braces - 1])) {
+                return false;
+            }
+            braces--;
+            parenDepth = braceParenDepths[braces];
+            if (braceBlocks[braces]) {
+                newline();
+                printText(JavaLexer.RBRACE, "}");
+                afterBlock = true;
+                afterDoBody = braceDoBodies[braces];
+            } else {
+                printText(JavaLexer.RBRACE, "}");
+            }
+            return true;
+        }
+
+        private void print(int type, int start, int end) {
+            separate(type, source.charAt(start));
+            out.append(source, start, end);
+            lastType = type;
+            lastChar = source.charAt(end - 1);
+        }
+
+        private void printText(int type, String text) {
+            separate(type, text.charAt(0));
+            out.append(text);
+            lastType = type;
+            lastChar = text.charAt(text.length() - 1);
+        }
+
+        private void separate(int type, char firstChar) {
+            if (!lineStart && (gap ? !tight(lastType, type) : removed && merges(lastChar, firstChar))) {
+                out.append(' ');
+            }
+            lineStart = false;
+            gap = false;
+            removed = false;
+        }
+
+        private void newline() {
+            if (!lineStart) {
+                out.append('\n');
+                lineStart = true;
+            }
+            gap = false;
+            removed = false;
+        }
+
+        Cleaned finish() {
+            if (braces != 0 || parenDepth != 0 || bracketDepth != 0) {
+                return null;
+            }
+            newline();
+            return new Cleaned(out.toString(), declaresType);
+        }
+
+        // No space inside brackets and before separators
+        private static boolean tight(int previousType, int type) {
+            return previousType == JavaLexer.LPAREN || previousType == JavaLexer.LBRACK
+                    || type == JavaLexer.RPAREN || type == JavaLexer.RBRACK
+                    || type == JavaLexer.SEMI || type == JavaLexer.COMMA;
+        }
+
+        // Whether two tokens printed without a space between them would lex differently
+        private static boolean merges(char last, char first) {
+            return (isWordChar(last) && isWordChar(first))
+                    || (OPERATOR_CHARS.indexOf(last) >= 0 && OPERATOR_CHARS.indexOf(first) >= 0);
+        }
+
+        private static boolean isWordChar(char c) {
+            return Character.isJavaIdentifierPart(c) || c == '.';
+        }
+    }
+}
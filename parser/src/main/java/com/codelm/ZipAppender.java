@@ -0,0 +1,271 @@
+package com.codelm;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipException;
+
+/**
+ * Zip writer for entries checksummed and compressed ahead of time, pigz-style.
+ * <p>
+ * {@link Entry#encode(String, String, int)} does the CRC-32 and raw deflate of one file and is meant to run on the
+ * worker threads, so compression scales with the cores. The appender itself only copies the finished entries to
+ * the file in order and writes the central directory on {@link #close()}, adding zip64 records once the archive
+ * outgrows 4 GB or 65535 entries. Entries deflate does not shrink are stored. The output is a regular zip, read by
+ * {@link java.util.zip.ZipFile}, {@link MappedZipFile} and Python's {@code zipfile} alike.
+ */
+public class ZipAppender implements Closeable {
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+    private static final int END_SIGNATURE = 0x06054b50;
+    private static final int ZIP64_END_SIGNATURE = 0x06064b50;
+    private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+    private static final int ZIP64_EXTRA_ID = 0x0001;
+    private static final int LOCAL_HEADER_SIZE = 30;
+    private static final int CENTRAL_HEADER_SIZE = 46;
+    private static final int ZIP64_END_SIZE = 56;
+    private static final int ZIP64_LOCATOR_SIZE = 20;
+    private static final int END_SIZE = 22;
+    private static final int UTF8_FLAG = 0x0800;
+    private static final int VERSION_STORED = 10;
+    private static final int VERSION_DEFLATED = 20;
+    private static final int VERSION_ZIP64 = 45;
+    private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+    private static final int ZIP64_MAGIC_COUNT = 0xFFFF;
+
+    public static final int STORED = 0;
+    public static final int DEFLATED = 8;
+
+    private static final ThreadLocal<Encoder> ENCODERS = ThreadLocal.withInitial(Encoder::new);
+
+    /**
+     * One file ready to be appended: its name, checksum and data as they go into the archive.
+     */
+    public static final class Entry {
+        private final String name;
+        private final byte[] nameBytes;
+        private final int method;
+        private final long crc;
+        private final long size;
+        private final byte[] data;
+
+        private Entry(String name, int method, long crc, long size, byte[] data) {
+            this.name = name;
+            this.nameBytes = name.getBytes(StandardCharsets.UTF_8);
+            this.method = method;
+            this.crc = crc;
+            this.size = size;
+            this.data = data;
+        }
+
+        /**
+         * Encodes a file as UTF-8, checksums it and deflates it on the calling thread.
+         *
+         * @param level Deflate level from 1 to 9, 0 to store the entry uncompressed.
+         */
+        public static Entry encode(String name, String content, int level) {
+            byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+            CRC32 crc = new CRC32();
+            crc.update(bytes);
+            byte[] compressed = level > 0 ? ENCODERS.get().deflate(bytes, level) : null;
+            return compressed != null
+                    ? new Entry(name, DEFLATED, crc.getValue(), bytes.length, compressed)
+                    : new Entry(name, STORED, crc.getValue(), bytes.length, bytes);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getMethod() {
+            return method;
+        }
+
+        /**
+         * @return Uncompressed size in bytes.
+         */
+        public long getSize() {
+            return size;
+        }
+
+        public long getCompressedSize() {
+            return data.length;
+        }
+    }
+
+    // Per worker thread, keeps the native deflate state and output buffer across entries
+    private static final class Encoder {
+        private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        private byte[] buffer = new byte[1 << 16];
+
+        /**
+         * @return The raw deflate stream, or null if it is not smaller than the input.
+         */
+        byte[] deflate(byte[] input, int level) {
+            if (input.length == 0) {
+                return null;
+            }
+            if (buffer.length < input.length) {
+                buffer = new byte[Math.max(input.length, buffer.length * 2)];
+            }
+            deflater.reset();
+            deflater.setLevel(level);
+            deflater.setInput(input);
+            deflater.finish();
+            int length = 0;
+            // Giving up as soon as the output reaches the input size, so the buffer never has to grow
+            while (!deflater.finished() && length < input.length) {
+                length += deflater.deflate(buffer, length, input.length - length);
+            }
+            return deflater.finished() && length < input.length ? Arrays.copyOf(buffer, length) : null;
+        }
+    }
+
+    private final OutputStream out;
+    private final int dosTime = dosTime(LocalDateTime.now());
+    private final Set<String> names = new HashSet<>();
+    private ByteBuffer central = ByteBuffer.allocate(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+    private final ByteBuffer header = ByteBuffer.allocate(LOCAL_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private long position;
+    private long entryCount;
+    private boolean closed;
+
+    public ZipAppender(Path path) throws IOException {
+        this.out = new BufferedOutputStream(Files.newOutputStream(path), 1 << 16);
+    }
+
+    /**
+     * Writes the local header and data of an entry.
+     *
+     * @throws ZipException If an entry of the same name was already appended.
+     */
+    public void append(Entry entry) throws IOException {
+        if (!names.add(entry.name)) {
+            throw new ZipException("duplicate entry: " + entry.name);
+        }
+        long offset = position;
+        int version = entry.method == DEFLATED ? VERSION_DEFLATED : VERSION_STORED;
+
+        // Sizes always fit the local header, a Java array holds less than 4 GB
+        header.clear();
+        header.putInt(LOCAL_HEADER_SIGNATURE)
+                .putShort((short) version)
+                .putShort((short) UTF8_FLAG)
+                .putShort((short) entry.method)
+                .putInt(dosTime)
+                .putInt((int) entry.crc)
+                .putInt(entry.data.length)
+                .putInt((int) entry.size)
+                .putShort((short) entry.nameBytes.length)
+                .putShort((short) 0);
+        write(header.array(), LOCAL_HEADER_SIZE);
+        write(entry.nameBytes, entry.nameBytes.length);
+        write(entry.data, entry.data.length);
+
+        boolean zip64 = offset >= ZIP64_MAGIC;
+        ensureCentral(CENTRAL_HEADER_SIZE + entry.nameBytes.length + (zip64 ? 12 : 0));
+        central.putInt(CENTRAL_HEADER_SIGNATURE)
+                .putShort((short) (zip64 ? VERSION_ZIP64 : version))
+                .putShort((short) (zip64 ? VERSION_ZIP64 : version))
+                .putShort((short) UTF8_FLAG)
+                .putShort((short) entry.method)
+                .putInt(dosTime)
+                .putInt((int) entry.crc)
+                .putInt(entry.data.length)
+                .putInt((int) entry.size)
+                .putShort((short) entry.nameBytes.length)
+                .putShort((short) (zip64 ? 12 : 0))
+                .putShort((short) 0) // Comment length
+                .putShort((short) 0) // Disk number
+                .putShort((short) 0) // Internal attributes
+                .putInt(0) // External attributes
+                .putInt((int) (zip64 ? ZIP64_MAGIC : offset))
+                .put(entry.nameBytes);
+        if (zip64) {
+            central.putShort((short) ZIP64_EXTRA_ID).putShort((short) 8).putLong(offset);
+        }
+        entryCount++;
+    }
+
+    /**
+     * Writes the central directory and closes the file.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try (out) {
+            long directoryOffset = position;
+            write(central.array(), central.position());
+            long directorySize = position - directoryOffset;
+
+            ByteBuffer end = ByteBuffer.allocate(ZIP64_END_SIZE + ZIP64_LOCATOR_SIZE + END_SIZE)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            boolean zip64 = entryCount >= ZIP64_MAGIC_COUNT || directoryOffset >= ZIP64_MAGIC
+                    || directorySize >= ZIP64_MAGIC;
+            if (zip64) {
+                long zip64EndOffset = position;
+                end.putInt(ZIP64_END_SIGNATURE)
+                        .putLong(ZIP64_END_SIZE - 12) // Size of the rest of the record
+                        .putShort((short) VERSION_ZIP64)
+                        .putShort((short) VERSION_ZIP64)
+                        .putInt(0) // Disk number
+                        .putInt(0) // Disk of the central directory
+                        .putLong(entryCount)
+                        .putLong(entryCount)
+                        .putLong(directorySize)
+                        .putLong(directoryOffset);
+                end.putInt(ZIP64_LOCATOR_SIGNATURE)
+                        .putInt(0) // Disk of the zip64 end record
+                        .putLong(zip64EndOffset)
+                        .putInt(1); // Number of disks
+            }
+            short count = (short) Math.min(entryCount, ZIP64_MAGIC_COUNT);
+            end.putInt(END_SIGNATURE)
+                    .putShort((short) 0) // Disk number
+                    .putShort((short) 0) // Disk of the central directory
+                    .putShort(count)
+                    .putShort(count)
+                    .putInt((int) Math.min(directorySize, ZIP64_MAGIC))
+                    .putInt((int) Math.min(directoryOffset, ZIP64_MAGIC))
+                    .putShort((short) 0); // Comment length
+            write(end.array(), end.position());
+        }
+    }
+
+    private void write(byte[] bytes, int length) throws IOException {
+        out.write(bytes, 0, length);
+        position += length;
+    }
+
+    private void ensureCentral(int bytes) {
+        if (central.remaining() < bytes) {
+            int capacity = Math.max(central.capacity() * 2, central.position() + bytes);
+            central = ByteBuffer.wrap(Arrays.copyOf(central.array(), capacity)).order(ByteOrder.LITTLE_ENDIAN)
+                    .position(central.position());
+        }
+    }
+
+    // MS-DOS date (high half) and time (low half, two second resolution) of every entry
+    private static int dosTime(LocalDateTime time) {
+        if (time.getYear() < 1980) {
+            return (1 << 21) | (1 << 16);
+        }
+        return (time.getYear() - 1980) << 25 | time.getMonthValue() << 21 | time.getDayOfMonth() << 16
+                | time.getHour() << 11 | time.getMinute() << 5 | time.getSecond() >> 1;
+    }
+}
@@ -8,6 +8,11 @@ from transformers import LlamaConfig, LlamaForCausalLM
 from transformers import DataCollatorForLanguageModeling
 from transformers import TrainingArguments
 from transformers import Trainer
+import corpus_shards
+
+# Train on the binary shards of `batchEncodeBinary` or `ParsingText corpus` instead of the per-file text of
+# `batchEncode`. The shards must be written with the BPE tokenizer, so they hold final model IDs.
+use_corpus_shards = False
 
 def create_train_dataset_generator(base_dir, split_ratio=0.9):
     """Generator that yields Java file contents from multiple folders"""
@@ -57,6 +62,12 @@ def create_eval_dataset_generator(base_dir, split_ratio=0.9):
                     print(f"Error reading {java_file}: {e}")
                     continue
 
+def create_shard_dataset_generator(shard_paths, max_length):
+    """Generator that yields the model token IDs of every file in the given shards, truncated like the text"""
+    for document in corpus_shards.iter_documents(shard_paths):
+        if len(document):
+            yield {"input_ids": document[:max_length].astype("int64").tolist()}
+
 def count_train_files(base_dir, split_ratio=0.9):
     """Count total files in training dataset"""
     processed_dirs = glob.glob(os.path.join(base_dir, "processed_part_*"))
@@ -81,15 +92,23 @@ def count_train_files(base_dir, split_ratio=0.9):
 # Replace the dataset loading lines with:
 base_dir = "./data/processed_dataset"
 
-total_train_files = count_train_files(base_dir=base_dir, split_ratio=0.999)
-
-train_streamed_ds = IterableDataset.from_generator(
-    lambda: create_train_dataset_generator(base_dir, split_ratio=0.999)
-)
+if use_corpus_shards:
+    # Split shards for train/val, like the directories
+    shard_paths = corpus_shards.list_shards()
+    split_idx = int(len(shard_paths) * 0.999)
+    train_shards = shard_paths[:split_idx]
+    eval_shards = shard_paths[split_idx:]
+    total_train_files = corpus_shards.count_documents(train_shards)
+else:
+    total_train_files = count_train_files(base_dir=base_dir, split_ratio=0.999)
+
+    train_streamed_ds = IterableDataset.from_generator(
+        lambda: create_train_dataset_generator(base_dir, split_ratio=0.999)
+    )
 
-eval_streamed_ds = IterableDataset.from_generator(
-    lambda: create_eval_dataset_generator(base_dir, split_ratio=0.999)
-)
+    eval_streamed_ds = IterableDataset.from_generator(
+        lambda: create_eval_dataset_generator(base_dir, split_ratio=0.999)
+    )
 
 print("Dataset loaded")
 
@@ -123,12 +142,6 @@ n_params = model.num_parameters()
 print(f"Vocab size {config.vocab_size:,} → {n_params:,} total parameters "
       f"({n_params/1e6:.2f} M)")
 
-# Test the dataset and tokenizer
-example = next(iter(train_streamed_ds))
-print("Dataset keys:", example.keys())
-print("Example content length:", len(example["content"]))
-print("Example (first 10 chars):", example["content"][:10])
-
 def tokenize_function(examples):
     return tokenizer(
         examples["content"],
@@ -137,13 +150,31 @@ def tokenize_function(examples):
         padding="max_length"
     )
 
-# Test tokenization
-print("Testing tokenization...")
-test_encoding = tokenizer(example["content"][:100])
-print(f"Test tokens: {len(test_encoding['input_ids'])} tokens")
+if use_corpus_shards:
+    # Already tokenized, the collator pads the batches
+    train_tokenized = IterableDataset.from_generator(
+        lambda: create_shard_dataset_generator(train_shards, config.max_position_embeddings)
+    )
+    eval_tokenized = IterableDataset.from_generator(
+        lambda: create_shard_dataset_generator(eval_shards, config.max_position_embeddings)
+    )
 
-train_tokenized = train_streamed_ds.map(tokenize_function, batched=True, remove_columns=["content"])
-eval_tokenized = eval_streamed_ds.map(tokenize_function, batched=True, remove_columns=["content"])
+    example = next(iter(train_tokenized))
+    print(f"Example tokens: {len(example['input_ids'])}")
+else:
+    # Test the dataset and tokenizer
+    example = next(iter(train_streamed_ds))
+    print("Dataset keys:", example.keys())
+    print("Example content length:", len(example["content"]))
+    print("Example (first 10 chars):", example["content"][:10])
+
+    # Test tokenization
+    print("Testing tokenization...")
+    test_encoding = tokenizer(example["content"][:100])
+    print(f"Test tokens: {len(test_encoding['input_ids'])} tokens")
+
+    train_tokenized = train_streamed_ds.map(tokenize_function, batched=True, remove_columns=["content"])
+    eval_tokenized = eval_streamed_ds.map(tokenize_function, batched=True, remove_columns=["content"])
 
 data_collator = DataCollatorForLanguageModeling(
     tokenizer=tokenizer,